@@ -16,6 +16,9 @@ CREATE TABLE users (
   password          CHAR(64) NOT NULL
 );
 
+-- User.hbm.xml allocates ids from this sequence in blocks of 50.
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE user_status (
   id                SERIAL PRIMARY KEY,
   user_id           INTEGER NOT NULL,
@@ -0,0 +1,50 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of <code>benchmarks.jar</code>.
+ *
+ * <p>
+ * Accepts the usual JMH command line options, and by default adds the GC
+ * allocation profiler and writes the results to <code>jmh-result.json</code>
+ * (override with <code>-rf</code> / <code>-rff</code>).
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException,
+            CommandLineOptionException, IOException {
+        var cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp()) {
+            cmd.showHelp();
+            return;
+        }
+        if (cmd.shouldList() || cmd.shouldListWithParams()
+                || cmd.shouldListProfilers()
+                || cmd.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd)
+                .addProfiler(GCProfiler.class);
+        if (!cmd.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            builder.result("jmh-result.json");
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
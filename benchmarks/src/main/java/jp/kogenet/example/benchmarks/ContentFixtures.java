@@ -0,0 +1,114 @@
+package jp.kogenet.example.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.gson.AnnotationExclusionStrategy;
+import jp.kogenet.example.cointents.utils.gson.CompiledTypeAdapterFactory;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTimeTypeAdapter;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTypeAdapter;
+import jp.kogenet.example.cointents.utils.gson.ZonedDateTimeTypeAdapter;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeDeserializer;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeSerializer;
+
+/**
+ * Content model fixtures, configured the same way as the unit tests.
+ *
+ */
+public final class ContentFixtures {
+
+    private ContentFixtures() {
+    }
+
+    public static GsonBuilder gsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class,
+                        new LocalDateTimeTypeAdapter().nullSafe())
+                .registerTypeAdapter(LocalDate.class,
+                        new LocalDateTypeAdapter().nullSafe())
+                .registerTypeAdapter(ZonedDateTime.class,
+                        new ZonedDateTimeTypeAdapter().nullSafe())
+                .setExclusionStrategies(new AnnotationExclusionStrategy())
+                .setFieldNamingPolicy(
+                        FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .setVersion(1.0);
+    }
+
+    public static Gson gson() {
+        return gsonBuilder().create();
+    }
+
+    /**
+     * {@link #gson()} with {@link CompiledTypeAdapterFactory} adapters for
+     * <code>Team</code> and <code>Staff</code>.
+     */
+    public static Gson compiledGson() {
+        return gsonBuilder()
+                .registerTypeAdapterFactory(new CompiledTypeAdapterFactory(
+                        FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES,
+                        Team.class, Staff.class))
+                .create();
+    }
+
+    public static ObjectMapper objectMapper() {
+        var mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+
+        var module = new SimpleModule();
+        module.addSerializer(ZonedDateTime.class,
+                new UTCZonedDateTimeSerializer());
+        module.addDeserializer(ZonedDateTime.class,
+                new UTCZonedDateTimeDeserializer());
+        mapper.registerModule(module);
+
+        return mapper;
+    }
+
+    public static Staff staff(int index) {
+        var staff = new Staff();
+        staff.setName("Staff-" + index);
+        staff.setNumOfYears(20 + index % 40);
+        staff.setPosition(new String[] { "Founder", "CTO", "Writer" });
+        Map<String, BigDecimal> salary = new HashMap<>();
+        salary.put("2010", new BigDecimal(10000 + index));
+        salary.put("2012", new BigDecimal(12000 + index));
+        salary.put("2018", new BigDecimal(14000 + index));
+        staff.setSalary(salary);
+        staff.setSkills(Arrays.asList("java", "python", "node", "kotlin"));
+        staff.setBirthday(LocalDate.of(1970, 4, 1).plusDays(index % 10000));
+        staff.setLastUpdateAt(ZonedDateTime
+                .of(2018, 1, 12, 13, 14, 15, 167000000, ZoneId.of("Asia/Tokyo"))
+                .plusSeconds(index));
+        return staff;
+    }
+
+    public static Team team(int members) {
+        return Team.create("Avoid project.", LocalDate.of(2020, 9, 1), () -> {
+            List<Staff> list = new ArrayList<>(members);
+            for (int i = 0; i < members; i++) {
+                list.add(staff(i));
+            }
+            return list;
+        });
+    }
+}
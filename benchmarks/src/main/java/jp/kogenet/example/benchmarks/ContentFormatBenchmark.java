@@ -0,0 +1,72 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.ContentFormat;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+/**
+ * <code>Team</code> encoded to and decoded from each {@link ContentFormat}.
+ *
+ * <p>
+ * The payload size of each format is printed when the trial starts.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentFormatBenchmark {
+
+    @Param({ "JSON", "SMILE", "CBOR" })
+    ContentFormat format;
+
+    @Param({ "1", "100" })
+    int members;
+
+    ObjectWriter writer;
+    ObjectReader reader;
+
+    Team team;
+    byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        writer = ContentMappers.writer(format, Team.class);
+        reader = ContentMappers.reader(format, Team.class);
+
+        team = ContentFixtures.team(members);
+        bytes = writer.writeValueAsBytes(team);
+        System.out.println(format + " x " + members + ": " + bytes.length
+                + " bytes");
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return writer.writeValueAsBytes(team);
+    }
+
+    @Benchmark
+    public Team read() throws IOException {
+        return reader.readValue(bytes);
+    }
+}
@@ -0,0 +1,92 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+/**
+ * {@link ContentMappers} against the mapper of <code>JacsonTests</code>.
+ *
+ * <p>
+ * <code>newMapper*</code> builds a mapper per operation, as each test does;
+ * <code>mapper*</code> reuses one plain mapper; <code>contentMappers*</code>
+ * uses the cached reader and writer, whose only difference from the plain
+ * mapper is Afterburner.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentMappersBenchmark {
+
+    @Param({ "1", "100" })
+    int members;
+
+    ObjectMapper mapper;
+    ObjectWriter writer;
+    ObjectReader reader;
+
+    Team team;
+    String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = ContentFixtures.objectMapper();
+        writer = ContentMappers.writer(Team.class);
+        reader = ContentMappers.reader(Team.class);
+
+        team = ContentFixtures.team(members);
+        json = mapper.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public String newMapperToJson() throws IOException {
+        return ContentFixtures.objectMapper().writeValueAsString(team);
+    }
+
+    @Benchmark
+    public Team newMapperFromJson() throws IOException {
+        return ContentFixtures.objectMapper().readValue(json, Team.class);
+    }
+
+    @Benchmark
+    public String mapperToJson() throws IOException {
+        return mapper.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public Team mapperFromJson() throws IOException {
+        return mapper.readValue(json, Team.class);
+    }
+
+    @Benchmark
+    public String contentMappersToJson() throws IOException {
+        return writer.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public Team contentMappersFromJson() throws IOException {
+        return reader.readValue(json);
+    }
+}
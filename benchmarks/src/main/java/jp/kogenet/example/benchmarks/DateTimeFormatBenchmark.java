@@ -0,0 +1,95 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.utils.gson.ZonedDateTimeTypeAdapter;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeSerializer;
+
+/**
+ * <code>ZonedDateTime</code> formatting and parsing in the Gson adapter and
+ * the Jackson serializer.
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeFormatBenchmark {
+
+    final ZonedDateTime value = ZonedDateTime.of(2018, 1, 12, 13, 14, 15,
+            167000000, ZoneId.of("Asia/Tokyo"));
+    final String json = "\"2018-01-12T04:14:15.167Z\"";
+
+    ZonedDateTimeTypeAdapter gsonAdapter;
+    JsonWriter gsonWriter;
+
+    ObjectMapper mapper;
+    UTCZonedDateTimeSerializer jacksonSerializer;
+    JsonGenerator jacksonGenerator;
+    SerializerProvider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gsonAdapter = new ZonedDateTimeTypeAdapter();
+        gsonWriter = new JsonWriter(Writer.nullWriter());
+        gsonWriter.setLenient(true); // allow multiple top-level values.
+
+        mapper = ContentFixtures.objectMapper();
+        jacksonSerializer = new UTCZonedDateTimeSerializer();
+        jacksonGenerator = mapper.getFactory()
+                .createGenerator(Writer.nullWriter());
+        provider = mapper.getSerializerProviderInstance();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        gsonWriter.close();
+        jacksonGenerator.close();
+    }
+
+    @Benchmark
+    public void gsonWrite() throws IOException {
+        gsonAdapter.write(gsonWriter, value);
+    }
+
+    @Benchmark
+    public ZonedDateTime gsonRead() throws IOException {
+        return gsonAdapter.read(new JsonReader(new StringReader(json)));
+    }
+
+    @Benchmark
+    public void jacksonWrite() throws IOException {
+        jacksonSerializer.serialize(value, jacksonGenerator, provider);
+    }
+
+    @Benchmark
+    public ZonedDateTime jacksonRead() throws IOException {
+        return mapper.readValue(json, ZonedDateTime.class);
+    }
+}
@@ -0,0 +1,18 @@
+package jp.kogenet.example.benchmarks;
+
+/**
+ * Heap still in use after a few full GCs, for the footprint programs.
+ */
+final class HeapUsage {
+
+    private HeapUsage() {
+    }
+
+    static long usedAfterGc() {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,145 @@
+package jp.kogenet.example.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal forward-only <code>ResultSet</code> over in-memory rows.
+ *
+ * <p>
+ * Like the PostgreSQL driver, a lookup by column label goes through a hash
+ * map before the value is read, so name-based and index-based access can be
+ * compared without a database.
+ * </p>
+ */
+public final class InMemoryResultSet implements InvocationHandler {
+
+    private final String[] columns;
+    private final Object[][] rows;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    private int cursor = -1;
+    private boolean wasNull;
+
+    private InMemoryResultSet(String[] columns, Object[][] rows) {
+        this.columns = columns;
+        this.rows = rows;
+        for (int i = 0; i < columns.length; i++) {
+            columnIndexes.put(columns[i], i + 1);
+        }
+    }
+
+    public static ResultSet of(String[] columns, Object[][] rows) {
+        return (ResultSet) Proxy.newProxyInstance(
+                InMemoryResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                new InMemoryResultSet(columns, rows));
+    }
+
+    /**
+     * Creates rows shaped like the <code>work_items</code> table.
+     */
+    public static ResultSet workItems(int size) {
+        var columns = new String[] { "id", "code", "name", "price", "quantity",
+                "purchase_date", "last_updated_at" };
+        var rows = new Object[size][];
+        var updatedAt = OffsetDateTime.of(2020, 9, 1, 12, 0, 0, 0,
+                ZoneOffset.UTC);
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Object[] { i + 1, String.format("%05d", 1000 + i),
+                    "ITEM-" + (1000 + i), BigDecimal.valueOf(100000L + i, 2),
+                    (i % 10 == 0) ? null : (10 + i) % Short.MAX_VALUE,
+                    LocalDate.of(2020, 9, 1).plusDays(i % 365),
+                    updatedAt.plusSeconds(i) };
+        }
+        return of(columns, rows);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+            throws Throwable {
+        switch (method.getName()) {
+        case "next":
+            return ++cursor < rows.length;
+        case "beforeFirst":
+            cursor = -1;
+            return null;
+        case "wasNull":
+            return wasNull;
+        case "findColumn":
+            return findColumn((String) args[0]);
+        case "getMetaData":
+            return metaData();
+        case "close":
+            return null;
+        case "isClosed":
+            return false;
+        case "getString":
+            return value(args[0]);
+        case "getBigDecimal":
+            return value(args[0]);
+        case "getInt":
+            var n = (Number) value(args[0]);
+            return (n != null) ? n.intValue() : 0;
+        case "getObject":
+            return value(args[0]);
+        case "unwrap":
+            return proxy;
+        case "isWrapperFor":
+            return false;
+        case "hashCode":
+            return System.identityHashCode(proxy);
+        case "equals":
+            return proxy == args[0];
+        case "toString":
+            return "InMemoryResultSet[" + rows.length + " rows]";
+        default:
+            throw new SQLException(method.getName() + " is not supported.");
+        }
+    }
+
+    private int findColumn(String label) throws SQLException {
+        Integer index = columnIndexes.get(label);
+        if (index == null) {
+            throw new SQLException("The column name " + label
+                    + " was not found in this ResultSet.");
+        }
+        return index;
+    }
+
+    private Object value(Object column) throws SQLException {
+        int index = (column instanceof String) ? findColumn((String) column)
+                : (Integer) column;
+        var value = rows[cursor][index - 1];
+        wasNull = (value == null);
+        return value;
+    }
+
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(
+                InMemoryResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSetMetaData.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getColumnCount":
+                        return columns.length;
+                    case "getColumnLabel":
+                    case "getColumnName":
+                        return columns[(Integer) args[0] - 1];
+                    default:
+                        throw new SQLException(
+                                method.getName() + " is not supported.");
+                    }
+                });
+    }
+}
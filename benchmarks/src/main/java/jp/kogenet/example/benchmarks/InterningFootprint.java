@@ -0,0 +1,121 @@
+package jp.kogenet.example.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.google.gson.Gson;
+
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.StringInterner;
+import jp.kogenet.example.cointents.utils.gson.InterningTypeAdapterFactory;
+import jp.kogenet.example.cointents.utils.jackson.InterningModule;
+
+/**
+ * Retained heap of a deserialized <code>Team</code> with and without
+ * {@link StringInterner}.
+ *
+ * <p>
+ * Not a JMH benchmark: it writes a synthetic team whose members repeat a
+ * handful of positions and skills, reads it back with each configuration,
+ * and prints the heap still in use after a full GC.
+ * </p>
+ *
+ * <pre>
+ * java -Xmx4g -cp target/benchmarks.jar \
+ *     jp.kogenet.example.benchmarks.InterningFootprint [members]
+ * </pre>
+ */
+public class InterningFootprint {
+
+    private static final String[] POSITIONS = { "Founder", "CTO", "Writer",
+            "Engineer", "Manager" };
+    private static final String[] SKILLS = { "java", "python", "node",
+            "kotlin", "go", "rust" };
+
+    @FunctionalInterface
+    private interface TeamDecoder {
+        Team read(InputStream in) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int members = (args.length > 0) ? Integer.parseInt(args[0]) : 500000;
+
+        Path file = Files.createTempFile("team", ".json");
+        try {
+            writeTeam(file, members);
+            System.out.printf("%,d members, %,d bytes of JSON%n", members,
+                    Files.size(file));
+
+            var mapper = ContentFixtures.objectMapper();
+            Gson gson = ContentFixtures.gson();
+            measure("jackson", file, in -> mapper.readValue(in, Team.class));
+            measure("jackson interned", file,
+                    in -> ContentFixtures.objectMapper()
+                            .registerModule(
+                                    new InterningModule(new StringInterner()))
+                            .readValue(in, Team.class));
+            measure("gson", file, in -> gson.fromJson(
+                    new InputStreamReader(in, UTF_8), Team.class));
+            measure("gson interned", file,
+                    in -> ContentFixtures.gsonBuilder()
+                            .registerTypeAdapterFactory(
+                                    new InterningTypeAdapterFactory(
+                                            new StringInterner()))
+                            .create()
+                            .fromJson(new InputStreamReader(in, UTF_8),
+                                    Team.class));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Staff staff(int index) {
+        var staff = ContentFixtures.staff(index);
+        staff.setPosition(new String[] { POSITIONS[index % 2],
+                POSITIONS[2 + index % 3] });
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            skills.add(SKILLS[(index + i * (1 + index % 2)) % SKILLS.length]);
+        }
+        staff.setSkills(skills);
+        return staff;
+    }
+
+    private static void writeTeam(Path file, int members) throws IOException {
+        var header = Team.create("Footprint", LocalDate.of(2020, 9, 1),
+                () -> null);
+        try (var out = Files.newOutputStream(file)) {
+            new JacksonTeamWriter(ContentFixtures.objectMapper()).write(header,
+                    IntStream.range(0, members)
+                            .mapToObj(InterningFootprint::staff),
+                    out);
+        }
+    }
+
+    private static void measure(String label, Path file, TeamDecoder decoder)
+            throws IOException {
+        long before = HeapUsage.usedAfterGc();
+        Team team;
+        try (var in = Files.newInputStream(file)) {
+            team = decoder.read(in);
+        }
+        long after = HeapUsage.usedAfterGc();
+        System.out.printf("%-18s %,15d bytes retained (%s ...)%n", label,
+                after - before,
+                Arrays.toString(team.getMembers().get(0).getPosition()));
+        Reference.reachabilityFence(team);
+    }
+}
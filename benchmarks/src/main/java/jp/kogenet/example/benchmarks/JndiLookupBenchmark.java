@@ -0,0 +1,89 @@
+package jp.kogenet.example.benchmarks;
+
+import java.util.Hashtable;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.Name;
+import javax.naming.NamingException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.persistence.StandaloneContext;
+import jp.kogenet.example.persistence.StandaloneContextFactory;
+
+/**
+ * Looking up a <code>DataSource</code> name from many threads at once.
+ *
+ * <p>
+ * <code>hashtable</code> is the synchronized lookup that
+ * {@link StandaloneContext} used to do. Run with <code>-t</code> to change
+ * the number of threads.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class JndiLookupBenchmark {
+
+    static final String NAME = "java:comp/env/jdbc/datasource";
+
+    final Object dataSource = new Object();
+
+    Hashtable<Object, Object> hashtable;
+    Context context;
+    Name name;
+    Hashtable<String, String> environment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NamingException {
+        hashtable = new Hashtable<>();
+        hashtable.put(NAME, dataSource);
+
+        context = new StandaloneContext();
+        context.bind(NAME, dataSource);
+        name = context.getNameParser("").parse(NAME);
+
+        environment = new Hashtable<>();
+        environment.put(Context.INITIAL_CONTEXT_FACTORY,
+                StandaloneContextFactory.class.getName());
+        new InitialContext(environment).rebind(NAME, dataSource);
+    }
+
+    @Benchmark
+    public Object hashtable() {
+        return hashtable.get(NAME);
+    }
+
+    @Benchmark
+    public Object lookupString() throws NamingException {
+        return context.lookup(NAME);
+    }
+
+    @Benchmark
+    public Object lookupName() throws NamingException {
+        return context.lookup(name);
+    }
+
+    /** What <code>JdbcTests.getDataSource()</code> does per call. */
+    @Benchmark
+    public Object initialContext() throws NamingException {
+        return new InitialContext(environment).lookup(NAME);
+    }
+}
@@ -0,0 +1,172 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.utils.LocalDateCache;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTimeTypeAdapter;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTypeAdapter;
+
+/**
+ * <code>LocalDate</code> and <code>LocalDateTime</code> in the Gson adapters,
+ * against the <code>DateTimeFormatter</code> versions they replaced.
+ *
+ * <p>
+ * Each call takes the next of 64 recurring values, as birthdays and start
+ * dates do in a feed.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocalDateFormatBenchmark {
+
+    private static final int VALUES = 64;
+
+    /** The adapters as they were, on <code>DateTimeFormatter</code>. */
+    static class FormatterDateAdapter extends TypeAdapter<LocalDate> {
+        @Override
+        public void write(JsonWriter out, LocalDate value) throws IOException {
+            out.value(value.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        }
+
+        @Override
+        public LocalDate read(JsonReader in) throws IOException {
+            return LocalDate.parse(in.nextString());
+        }
+    }
+
+    static class FormatterDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+        @Override
+        public void write(JsonWriter out, LocalDateTime value)
+                throws IOException {
+            out.value(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            return LocalDateTime.parse(in.nextString());
+        }
+    }
+
+    final LocalDate[] dates = new LocalDate[VALUES];
+    final String[] dateJson = new String[VALUES];
+    final LocalDateTime[] dateTimes = new LocalDateTime[VALUES];
+    final String[] dateTimeJson = new String[VALUES];
+    int index;
+
+    TypeAdapter<LocalDate> formatterDate;
+    TypeAdapter<LocalDate> fastDate;
+    TypeAdapter<LocalDate> cachedDate;
+    TypeAdapter<LocalDateTime> formatterDateTime;
+    TypeAdapter<LocalDateTime> fastDateTime;
+    JsonWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < VALUES; i++) {
+            dates[i] = LocalDate.of(1970, 4, 1).plusDays(i * 97);
+            dateJson[i] = '"' + dates[i].toString() + '"';
+            dateTimes[i] = dates[i].atTime(13, 14, 15, 167000000);
+            dateTimeJson[i] = '"' + dateTimes[i]
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + '"';
+        }
+
+        formatterDate = new FormatterDateAdapter();
+        fastDate = new LocalDateTypeAdapter();
+        cachedDate = new LocalDateTypeAdapter(new LocalDateCache());
+        formatterDateTime = new FormatterDateTimeAdapter();
+        fastDateTime = new LocalDateTimeTypeAdapter();
+        writer = new JsonWriter(Writer.nullWriter());
+        writer.setLenient(true); // allow multiple top-level values.
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        writer.close();
+    }
+
+    private int next() {
+        return index = (index + 1) & (VALUES - 1);
+    }
+
+    private static <T> T read(TypeAdapter<T> adapter, String json)
+            throws IOException {
+        return adapter.read(new JsonReader(new StringReader(json)));
+    }
+
+    @Benchmark
+    public LocalDate formatterDateRead() throws IOException {
+        return read(formatterDate, dateJson[next()]);
+    }
+
+    @Benchmark
+    public LocalDate fastDateRead() throws IOException {
+        return read(fastDate, dateJson[next()]);
+    }
+
+    @Benchmark
+    public LocalDate cachedDateRead() throws IOException {
+        return read(cachedDate, dateJson[next()]);
+    }
+
+    @Benchmark
+    public void formatterDateWrite() throws IOException {
+        formatterDate.write(writer, dates[next()]);
+    }
+
+    @Benchmark
+    public void fastDateWrite() throws IOException {
+        fastDate.write(writer, dates[next()]);
+    }
+
+    @Benchmark
+    public void cachedDateWrite() throws IOException {
+        cachedDate.write(writer, dates[next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime formatterDateTimeRead() throws IOException {
+        return read(formatterDateTime, dateTimeJson[next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime fastDateTimeRead() throws IOException {
+        return read(fastDateTime, dateTimeJson[next()]);
+    }
+
+    @Benchmark
+    public void formatterDateTimeWrite() throws IOException {
+        formatterDateTime.write(writer, dateTimes[next()]);
+    }
+
+    @Benchmark
+    public void fastDateTimeWrite() throws IOException {
+        fastDateTime.write(writer, dateTimes[next()]);
+    }
+}
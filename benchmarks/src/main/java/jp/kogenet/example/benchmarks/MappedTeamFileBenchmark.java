@@ -0,0 +1,100 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.io.JacksonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.io.MappedTeamFile;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Fetching one member of a large Team file through {@link MappedTeamFile},
+ * against streaming up to it with {@link JacksonTeamReader}.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedTeamFileBenchmark {
+
+    @Param({ "100000" })
+    int members;
+
+    ObjectMapper mapper;
+    Path path;
+    MappedTeamFile file;
+    int target;
+    String targetName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = ContentFixtures.objectMapper();
+        path = Files.createTempFile("team", ".json");
+        var header = Team.create("Mapped", LocalDate.of(2020, 9, 1),
+                () -> null);
+        try (var out = Files.newOutputStream(path)) {
+            new JacksonTeamWriter(mapper).write(header, IntStream
+                    .range(0, members).mapToObj(ContentFixtures::staff), out);
+        }
+        file = MappedTeamFile.open(mapper, path);
+        target = members / 2;
+        targetName = "Staff-" + target;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        file.close();
+        Files.deleteIfExists(MappedTeamFile.indexPath(path));
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public Staff mappedMember() throws IOException {
+        return file.member(target);
+    }
+
+    @Benchmark
+    public List<Staff> mappedMembersNamed() throws IOException {
+        return file.membersNamed(targetName);
+    }
+
+    @Benchmark
+    public Staff streamingMember() throws IOException {
+        try (var reader = JacksonTeamReader.open(mapper, path)) {
+            return reader.members().skip(target).findFirst().orElse(null);
+        }
+    }
+
+    @Benchmark
+    public MappedTeamFile openWithIndex() throws IOException {
+        try (var opened = MappedTeamFile.open(mapper, path)) {
+            return opened;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.io.GsonTeamWriter;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.io.ParallelTeamWriter;
+import jp.kogenet.example.cointents.io.TeamWriter;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Writing a large <code>Team</code> on one thread versus with
+ * {@link ParallelTeamWriter}.
+ *
+ * <p>
+ * Vary <code>threads</code> up to the number of cores to see the scaling.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelTeamWriterBenchmark {
+
+    @Param({ "100000" })
+    int members;
+
+    @Param({ "1", "2", "4" })
+    int threads;
+
+    @Param({ "1024" })
+    int chunkSize;
+
+    ForkJoinPool pool;
+    TeamWriter jacksonWriter;
+    TeamWriter jacksonParallelWriter;
+    TeamWriter gsonWriter;
+    TeamWriter gsonParallelWriter;
+
+    Team team;
+    List<Staff> list;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        var mapper = ContentFixtures.objectMapper();
+        var gson = ContentFixtures.gson();
+        jacksonWriter = new JacksonTeamWriter(mapper);
+        jacksonParallelWriter = new ParallelTeamWriter(mapper, pool,
+                chunkSize);
+        gsonWriter = new GsonTeamWriter(gson);
+        gsonParallelWriter = new ParallelTeamWriter(gson, pool, chunkSize);
+
+        team = ContentFixtures.team(members);
+        list = team.getMembers();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        jacksonWriter.write(team, list.iterator(),
+                OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void jacksonParallel() throws IOException {
+        jacksonParallelWriter.write(team, list.iterator(),
+                OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void gson() throws IOException {
+        gsonWriter.write(team, list.iterator(),
+                OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void gsonParallel() throws IOException {
+        gsonParallelWriter.write(team, list.iterator(),
+                OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,115 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.io.GsonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.io.StaffProjection;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Reading a team of wide members in full and projected to
+ * <code>name</code> and <code>last_update_at</code>.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    @Param({ "1000" })
+    int members;
+
+    /** Entries in each member's position, skills and salary. */
+    @Param({ "3", "30" })
+    int width;
+
+    ObjectMapper mapper;
+    Gson gson;
+    StaffProjection projection;
+    byte[] json;
+
+    private Staff staff(int index) {
+        var staff = ContentFixtures.staff(index);
+        var position = new String[width];
+        List<String> skills = new ArrayList<>();
+        var salary = new HashMap<String, BigDecimal>();
+        for (int i = 0; i < width; i++) {
+            position[i] = "Position-" + i;
+            skills.add("skill-" + i);
+            salary.put(String.valueOf(1990 + i),
+                    new BigDecimal(10000 + index * 10 + i).movePointLeft(2));
+        }
+        staff.setPosition(position);
+        staff.setSkills(skills);
+        staff.setSalary(salary);
+        return staff;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = ContentFixtures.objectMapper();
+        gson = ContentFixtures.gson();
+        projection = StaffProjection.of("name", "last_update_at");
+
+        var out = new ByteArrayOutputStream();
+        new JacksonTeamWriter(mapper).write(
+                Team.create("Wide", LocalDate.of(2020, 9, 1), () -> null),
+                IntStream.range(0, members).mapToObj(this::staff), out);
+        json = out.toByteArray();
+    }
+
+    @Benchmark
+    public Team jacksonFull() throws IOException {
+        return JacksonTeamReader.readTeam(mapper,
+                new ByteArrayInputStream(json), (StaffProjection) null);
+    }
+
+    @Benchmark
+    public Team jacksonProjected() throws IOException {
+        return JacksonTeamReader.readTeam(mapper,
+                new ByteArrayInputStream(json), projection);
+    }
+
+    @Benchmark
+    public Team gsonFull() throws IOException {
+        return GsonTeamReader.readTeam(gson, new ByteArrayInputStream(json),
+                (StaffProjection) null);
+    }
+
+    @Benchmark
+    public Team gsonProjected() throws IOException {
+        return GsonTeamReader.readTeam(gson, new ByteArrayInputStream(json),
+                projection);
+    }
+}
@@ -0,0 +1,100 @@
+package jp.kogenet.example.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import com.google.gson.Gson;
+
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.models.SalaryTable;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.gson.SalaryTableTypeAdapterFactory;
+import jp.kogenet.example.cointents.utils.jackson.SalaryTableModule;
+
+/**
+ * Retained heap per deserialized <code>Staff</code> with the default salary
+ * map and with {@link SalaryTable}.
+ *
+ * <p>
+ * Not a JMH benchmark: it writes a synthetic team, reads it back with each
+ * configuration, and prints the heap still in use after a full GC divided by
+ * the number of members.
+ * </p>
+ *
+ * <pre>
+ * java -Xmx3g -cp target/benchmarks.jar \
+ *     jp.kogenet.example.benchmarks.SalaryFootprint [members]
+ * </pre>
+ */
+public class SalaryFootprint {
+
+    @FunctionalInterface
+    private interface TeamDecoder {
+        Team read(InputStream in) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int members = (args.length > 0) ? Integer.parseInt(args[0]) : 500000;
+
+        Path file = Files.createTempFile("team", ".json");
+        try {
+            writeTeam(file, members);
+            System.out.printf("%,d members, %,d bytes of JSON%n", members,
+                    Files.size(file));
+
+            var mapper = ContentFixtures.objectMapper();
+            var compactMapper = ContentFixtures.objectMapper()
+                    .registerModule(new SalaryTableModule());
+            Gson gson = ContentFixtures.gson();
+            Gson compactGson = ContentFixtures.gsonBuilder()
+                    .registerTypeAdapterFactory(
+                            new SalaryTableTypeAdapterFactory())
+                    .create();
+            measure("jackson", file, members,
+                    in -> mapper.readValue(in, Team.class));
+            measure("jackson compact", file, members,
+                    in -> compactMapper.readValue(in, Team.class));
+            measure("gson", file, members, in -> gson.fromJson(
+                    new InputStreamReader(in, UTF_8), Team.class));
+            measure("gson compact", file, members,
+                    in -> compactGson.fromJson(
+                            new InputStreamReader(in, UTF_8), Team.class));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void writeTeam(Path file, int members) throws IOException {
+        var header = Team.create("Footprint", LocalDate.of(2020, 9, 1),
+                () -> null);
+        try (var out = Files.newOutputStream(file)) {
+            new JacksonTeamWriter(ContentFixtures.objectMapper()).write(header,
+                    IntStream.range(0, members)
+                            .mapToObj(ContentFixtures::staff),
+                    out);
+        }
+    }
+
+    private static void measure(String label, Path file, int members,
+            TeamDecoder decoder) throws IOException {
+        long before = HeapUsage.usedAfterGc();
+        Team team;
+        try (var in = Files.newInputStream(file)) {
+            team = decoder.read(in);
+        }
+        long after = HeapUsage.usedAfterGc();
+        System.out.printf("%-16s %,15d bytes retained, %,5d per staff (%s)%n",
+                label, after - before, (after - before) / members,
+                team.getMembers().get(0).getSalary().getClass()
+                        .getSimpleName());
+        Reference.reachabilityFence(team);
+    }
+}
@@ -0,0 +1,101 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.io.StaffLines;
+
+/**
+ * Reading NDJSON Staff on the calling thread only, against blocks parsed on
+ * a pool in input order and in completion order.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StaffLinesBenchmark {
+
+    @Param({ "100000" })
+    int members;
+
+    @Param({ "jackson", "gson" })
+    String library;
+
+    ExecutorService pool;
+    StaffLines sequential;
+    StaffLines parallel;
+    byte[] lines;
+
+    private StaffLines staffLines(Executor executor, int maxInFlight) {
+        int blockSize = 256 * 1024;
+        return "jackson".equals(library)
+                ? new StaffLines(ContentFixtures.objectMapper(), executor,
+                        blockSize, maxInFlight)
+                : new StaffLines(ContentFixtures.gson(), executor, blockSize,
+                        maxInFlight);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        pool = Executors.newFixedThreadPool(threads);
+        sequential = staffLines(Runnable::run, 1);
+        parallel = staffLines(pool, 2 * threads);
+
+        var out = new ByteArrayOutputStream();
+        sequential.write(
+                IntStream.range(0, members).mapToObj(ContentFixtures::staff),
+                out);
+        lines = out.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequential() {
+        try (var staff = sequential.read(new ByteArrayInputStream(lines))) {
+            return staff.count();
+        }
+    }
+
+    @Benchmark
+    public long parallelOrdered() {
+        try (var staff = parallel.read(new ByteArrayInputStream(lines))) {
+            return staff.count();
+        }
+    }
+
+    @Benchmark
+    public long parallelUnordered() {
+        try (var staff = parallel
+                .readUnordered(new ByteArrayInputStream(lines))) {
+            return staff.count();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package jp.kogenet.example.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * <code>Team</code>/<code>Staff</code> round-trips through Gson and Jackson.
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamJsonBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    int members;
+
+    Gson gson;
+    Gson compiledGson;
+    ObjectMapper mapper;
+
+    Team team;
+    String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        gson = ContentFixtures.gson();
+        compiledGson = ContentFixtures.compiledGson();
+        mapper = ContentFixtures.objectMapper();
+
+        team = ContentFixtures.team(members);
+        json = mapper.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public String gsonToJson() {
+        return gson.toJson(team);
+    }
+
+    @Benchmark
+    public Team gsonFromJson() {
+        return gson.fromJson(json, Team.class);
+    }
+
+    @Benchmark
+    public String gsonCompiledToJson() {
+        return compiledGson.toJson(team);
+    }
+
+    @Benchmark
+    public Team gsonCompiledFromJson() {
+        return compiledGson.fromJson(json, Team.class);
+    }
+
+    @Benchmark
+    public String jacksonToJson() throws IOException {
+        return mapper.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public Team jacksonFromJson() throws IOException {
+        return mapper.readValue(json, Team.class);
+    }
+}
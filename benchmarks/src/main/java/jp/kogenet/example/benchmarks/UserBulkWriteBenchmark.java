@@ -0,0 +1,130 @@
+package jp.kogenet.example.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.persistence.BulkWriteResult;
+import jp.kogenet.example.persistence.UserBulkWriter;
+import jp.kogenet.example.persistence.entities.User;
+import jp.kogenet.example.persistence.utils.HibernateUtil;
+
+/**
+ * Writing <code>User</code> one per transaction versus through
+ * {@link UserBulkWriter}.
+ *
+ * <p>
+ * Needs the database of <code>hibernate.cfg.xml</code>. The
+ * <code>roundTrips</code> and <code>rows</code> counters give the JDBC
+ * statements per row of each method.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserBulkWriteBenchmark {
+
+    @Param({ "1000" })
+    int rows;
+
+    SessionFactory sessionFactory;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long roundTrips;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = HibernateUtil.getSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeQuery("TRUNCATE TABLE users").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        truncate();
+        HibernateUtil.shutdown();
+    }
+
+    private Stream<User> users() {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new User(null, "user-" + i,
+                        "user-" + i + "@example.local", "password " + i));
+    }
+
+    /**
+     * Same as <code>HibernateTests.testCreate</code>, once per row.
+     */
+    @Benchmark
+    public void rowPerTransaction(Counters counters) {
+        var listener = new BaseSessionEventListener() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void jdbcExecuteStatementStart() {
+                counters.roundTrips++;
+            }
+
+            @Override
+            public void jdbcExecuteBatchStart() {
+                counters.roundTrips++;
+            }
+        };
+
+        try (Session session = sessionFactory.openSession()) {
+            session.addEventListeners(listener);
+            users().forEach(user -> {
+                session.beginTransaction();
+                session.save(user);
+                session.getTransaction().commit();
+            });
+        }
+        counters.rows += rows;
+    }
+
+    @Benchmark
+    public BulkWriteResult bulkWriter(Counters counters) {
+        var result = new UserBulkWriter(sessionFactory).write(users());
+
+        counters.roundTrips += result.getStatements() + result.getBatches();
+        counters.rows += result.getRows();
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+package jp.kogenet.example.benchmarks;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.kogenet.example.persistence.WorkItemRowMapper;
+import jp.kogenet.example.persistence.entities.WorkItem;
+
+/**
+ * <code>ResultSet</code> to <code>WorkItem</code> mapping.
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkItemMappingBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    int rows;
+
+    ResultSet resultSet;
+    WorkItemRowMapper rowMapper;
+
+    @Setup
+    public void setUp() {
+        resultSet = InMemoryResultSet.workItems(rows);
+        rowMapper = new WorkItemRowMapper(ZoneId.of("Asia/Tokyo"));
+    }
+
+    private static ZonedDateTime toZonedDateTimeSafe(OffsetDateTime o,
+            ZoneId zoneId) {
+        return (o != null) ? o.atZoneSameInstant(zoneId) : null;
+    }
+
+    /**
+     * Same mapping as <code>JdbcTests.testList</code>.
+     */
+    @Benchmark
+    public List<WorkItem> byColumnName() throws SQLException {
+        resultSet.beforeFirst();
+
+        List<WorkItem> resultList = new ArrayList<>();
+        while (resultSet.next()) {
+            WorkItem item = WorkItem.builder().id(resultSet.getInt("id"))
+                    .code(resultSet.getString("code"))
+                    .name(resultSet.getString("name"))
+                    .price(resultSet.getBigDecimal("price"))
+                    .quantity(resultSet.getInt("quantity"))
+                    .purchaseDate(resultSet.getObject("purchase_date",
+                            LocalDate.class))
+                    .lastUpdatedAt(toZonedDateTimeSafe(
+                            resultSet.getObject("last_updated_at",
+                                    OffsetDateTime.class),
+                            ZoneId.of("Asia/Tokyo")))
+                    .build();
+            resultList.add(item);
+        }
+        return resultList;
+    }
+
+    /**
+     * Indexes resolved once per <code>ResultSet</code> by
+     * <code>WorkItemRowMapper</code>.
+     */
+    @Benchmark
+    public List<WorkItem> byColumnIndex() throws SQLException {
+        resultSet.beforeFirst();
+
+        return rowMapper.mapAll(resultSet);
+    }
+
+    /**
+     * A fresh mapper per query, so the metadata lookup is included.
+     */
+    @Benchmark
+    public List<WorkItem> byColumnIndexUnbound() throws SQLException {
+        resultSet.beforeFirst();
+
+        return new WorkItemRowMapper(ZoneId.of("Asia/Tokyo"))
+                .mapAll(resultSet);
+    }
+}
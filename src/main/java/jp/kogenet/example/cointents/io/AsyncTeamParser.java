@@ -0,0 +1,296 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.ReadableByteChannel;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Push-style Team parser on Jackson's non-blocking parser.
+ *
+ * <p>
+ * Bytes are fed in whatever fragments they arrive in, and each member is
+ * passed to the listener as soon as its closing brace has been fed. Tokens
+ * of the member in progress are kept in a <code>TokenBuffer</code>, so no
+ * thread waits for the rest of the input. A parser reads one document and is
+ * not thread-safe; feed it from one thread at a time, such as a selector
+ * loop or a channel's completion handler.
+ * </p>
+ *
+ * <pre>
+ * AsyncTeamParser.read(socketChannel, mapper, staff -&gt; ...)
+ *         .thenAccept(header -&gt; ...);
+ * </pre>
+ */
+public class AsyncTeamParser implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private enum State {
+        ROOT, FIELDS, MEMBERS, DONE
+    }
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectReader staffReader;
+    private final ObjectReader dateReader;
+    private final Consumer<? super Staff> listener;
+
+    private State state = State.ROOT;
+    private String field;
+    private String name;
+    private LocalDate startAt;
+
+    /** The value being captured, or skipped when there is no buffer. */
+    private boolean capturing;
+    private TokenBuffer capture;
+    private int captureDepth;
+
+    private byte[] copyBuffer;
+
+    public AsyncTeamParser(ObjectMapper mapper,
+            Consumer<? super Staff> listener) throws IOException {
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.staffReader = mapper.readerFor(Staff.class);
+        this.dateReader = mapper.readerFor(LocalDate.class);
+        this.listener = listener;
+    }
+
+    /**
+     * Parses <code>channel</code> to its end with completion handlers,
+     * without blocking the calling thread. The channel is left open.
+     *
+     * @return the team fields, completed once the document has been read.
+     */
+    public static CompletableFuture<Team> read(AsynchronousByteChannel channel,
+            ObjectMapper mapper, Consumer<? super Staff> listener) {
+        var result = new CompletableFuture<Team>();
+        AsyncTeamParser parser;
+        try {
+            parser = new AsyncTeamParser(mapper, listener);
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        var buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        channel.read(buffer, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer count, Void attachment) {
+                try {
+                    if (count < 0) {
+                        parser.endOfInput();
+                        parser.close();
+                        result.complete(parser.getHeader());
+                        return;
+                    }
+                    buffer.flip();
+                    parser.feed(buffer);
+                    buffer.clear();
+                } catch (IOException | RuntimeException e) {
+                    failed(e, attachment);
+                    return;
+                }
+                channel.read(buffer, null, this);
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                try {
+                    parser.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reads what <code>channel</code> has available into <code>buffer</code>
+     * and feeds it. With a non-blocking channel, call this whenever a
+     * selector reports it readable.
+     *
+     * @return the number of bytes read, possibly zero, or <code>-1</code>
+     *         once the channel is at its end and the document complete.
+     */
+    public int readFrom(ReadableByteChannel channel, ByteBuffer buffer)
+            throws IOException {
+        buffer.clear();
+        int count = channel.read(buffer);
+        if (count < 0) {
+            endOfInput();
+            return -1;
+        }
+        buffer.flip();
+        feed(buffer);
+        return count;
+    }
+
+    /**
+     * Parses the remaining bytes of <code>chunk</code>, passing completed
+     * members to the listener. The buffer may be reused on return.
+     */
+    public void feed(ByteBuffer chunk) throws IOException {
+        int length = chunk.remaining();
+        if (chunk.hasArray()) {
+            feed(chunk.array(), chunk.arrayOffset() + chunk.position(),
+                    length);
+        } else {
+            if (copyBuffer == null || copyBuffer.length < length) {
+                copyBuffer = new byte[Math.max(length, DEFAULT_BUFFER_SIZE)];
+            }
+            chunk.duplicate().get(copyBuffer, 0, length);
+            feed(copyBuffer, 0, length);
+        }
+        chunk.position(chunk.limit());
+    }
+
+    /** Parses <code>bytes</code>, which may be reused on return. */
+    public void feed(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        feeder.feedInput(bytes, offset, offset + length);
+        drain();
+    }
+
+    /**
+     * Signals the end of the input.
+     *
+     * @throws IOException if the document is incomplete.
+     */
+    public void endOfInput() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (state != State.DONE) {
+            throw new IOException("Unexpected end of input at "
+                    + parser.getCurrentLocation());
+        }
+    }
+
+    /** Whether the whole document has been parsed. */
+    public boolean isDone() {
+        return state == State.DONE;
+    }
+
+    /**
+     * Returns the team fields parsed so far, without <code>members</code>.
+     */
+    public Team getHeader() {
+        return Team.builder().name(name).startAt(startAt).build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /** Consumes tokens until the parser needs more input. */
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE
+                && token != null) {
+            if (capturing) {
+                captureToken(token);
+            } else {
+                onToken(token);
+            }
+        }
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+        switch (state) {
+        case ROOT:
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a Team object but was "
+                        + token + " at " + parser.getCurrentLocation());
+            }
+            state = State.FIELDS;
+            break;
+        case FIELDS:
+            if (token == JsonToken.END_OBJECT) {
+                state = State.DONE;
+            } else if (token == JsonToken.FIELD_NAME) {
+                field = parser.getCurrentName();
+            } else if (TeamFields.MEMBERS.equals(field)
+                    && token == JsonToken.START_ARRAY) {
+                state = State.MEMBERS;
+            } else {
+                startCapture(token, TeamFields.NAME.equals(field)
+                        || TeamFields.START_AT.equals(field));
+            }
+            break;
+        case MEMBERS:
+            if (token == JsonToken.END_ARRAY) {
+                state = State.FIELDS;
+            } else if (token != JsonToken.VALUE_NULL) {
+                startCapture(token, true);
+            }
+            break;
+        default:
+            throw new IOException("Unexpected " + token + " after the Team at "
+                    + parser.getCurrentLocation());
+        }
+    }
+
+    private void startCapture(JsonToken token, boolean keep)
+            throws IOException {
+        capturing = true;
+        captureDepth = 0;
+        if (keep) {
+            // BigDecimal, as the async parser reports decimals as doubles.
+            capture = new TokenBuffer(parser).forceUseOfBigDecimal(true);
+        }
+        captureToken(token);
+    }
+
+    private void captureToken(JsonToken token) throws IOException {
+        if (capture != null) {
+            capture.copyCurrentEvent(parser);
+        }
+        if (token.isStructStart()) {
+            captureDepth++;
+        } else if (token.isStructEnd()) {
+            captureDepth--;
+        }
+        if (captureDepth == 0) {
+            TokenBuffer value = capture;
+            capturing = false;
+            capture = null;
+            if (value != null) {
+                onValue(value);
+            }
+        }
+    }
+
+    private void onValue(TokenBuffer value) throws IOException {
+        try (JsonParser valueParser = value.asParser()) {
+            valueParser.nextToken();
+            if (state == State.MEMBERS) {
+                listener.accept(staffReader.readValue(valueParser));
+            } else if (TeamFields.NAME.equals(field)) {
+                name = valueParser.getValueAsString();
+            } else {
+                startAt = dateReader.readValue(valueParser);
+            }
+        }
+    }
+}
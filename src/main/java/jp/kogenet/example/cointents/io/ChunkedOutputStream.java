@@ -0,0 +1,62 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffers output and passes it on in chunks of at most
+ * <code>chunkSize</code> bytes.
+ *
+ * <p>
+ * Unlike <code>BufferedOutputStream</code>, large writes are split as well.
+ * </p>
+ */
+class ChunkedOutputStream extends FilterOutputStream {
+
+    private final byte[] buffer;
+    private int count;
+
+    ChunkedOutputStream(OutputStream out, int chunkSize) {
+        super(out);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize <= 0");
+        }
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            int n = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
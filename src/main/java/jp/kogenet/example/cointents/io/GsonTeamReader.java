@@ -0,0 +1,179 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * {@link TeamReader} on top of Gson's <code>JsonReader</code>.
+ *
+ * <p>
+ * Given a {@link StaffProjection}, members are read with the selected fields
+ * only.
+ * </p>
+ */
+public class GsonTeamReader implements TeamReader {
+
+    private final JsonReader in;
+    private final TypeAdapter<Staff> staffAdapter;
+    private final TypeAdapter<LocalDate> dateAdapter;
+    private final StaffProjection projection;
+    private final TypeAdapter<?>[] projectionAdapters;
+
+    private String name;
+    private LocalDate startAt;
+    private boolean inMembers;
+
+    public GsonTeamReader(Gson gson, Reader reader) throws IOException {
+        this(gson, reader, null);
+    }
+
+    /**
+     * @param projection the member fields to read, or <code>null</code> for
+     *                   all of them.
+     */
+    public GsonTeamReader(Gson gson, Reader reader,
+            StaffProjection projection) throws IOException {
+        this.in = gson.newJsonReader(reader);
+        this.staffAdapter = gson.getAdapter(Staff.class);
+        this.dateAdapter = gson.getAdapter(LocalDate.class);
+        this.projection = projection;
+        this.projectionAdapters = (projection != null)
+                ? projection.adapters(gson)
+                : null;
+
+        in.beginObject();
+        readHeader();
+    }
+
+    public static GsonTeamReader open(Gson gson, InputStream stream)
+            throws IOException {
+        return open(gson, stream, null);
+    }
+
+    public static GsonTeamReader open(Gson gson, Path path)
+            throws IOException {
+        return open(gson,
+                Files.newBufferedReader(path, StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * Opens a reader on <code>stream</code>, which is closed if the header
+     * cannot be read.
+     */
+    public static GsonTeamReader open(Gson gson, InputStream stream,
+            StaffProjection projection) throws IOException {
+        return open(gson, new BufferedReader(
+                new InputStreamReader(stream, StandardCharsets.UTF_8)),
+                projection);
+    }
+
+    private static GsonTeamReader open(Gson gson, Reader reader,
+            StaffProjection projection) throws IOException {
+        try {
+            return new GsonTeamReader(gson, reader, projection);
+        } catch (IOException | RuntimeException e) {
+            TeamReaders.closeOnFailure(reader, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a whole team, members holding only <code>fields</code>, and
+     * closes <code>stream</code>.
+     */
+    public static Team readTeam(Gson gson, InputStream stream,
+            String... fields) throws IOException {
+        return readTeam(gson, stream, StaffProjection.of(fields));
+    }
+
+    public static Team readTeam(Gson gson, InputStream stream,
+            StaffProjection projection) throws IOException {
+        try (var reader = open(gson, stream, projection)) {
+            return TeamReaders.readAll(reader);
+        }
+    }
+
+    @Override
+    public Team getHeader() {
+        return Team.builder().name(name).startAt(startAt).build();
+    }
+
+    @Override
+    public Staff nextMember() throws IOException {
+        if (!inMembers) {
+            return null;
+        }
+        while (in.hasNext()) {
+            JsonToken token = in.peek();
+            if (token == JsonToken.BEGIN_OBJECT && projection != null) {
+                return projection.read(in, projectionAdapters);
+            }
+            if (token != JsonToken.NULL) {
+                return staffAdapter.read(in);
+            }
+            in.nextNull();
+        }
+
+        in.endArray();
+        inMembers = false;
+        readHeader();
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads fields until the start of <code>members</code> or the end of the
+     * object.
+     */
+    private void readHeader() throws IOException {
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case TeamFields.NAME:
+                name = nextStringOrNull();
+                break;
+            case TeamFields.START_AT:
+                startAt = dateAdapter.read(in);
+                break;
+            case TeamFields.MEMBERS:
+                if (in.peek() == JsonToken.BEGIN_ARRAY) {
+                    in.beginArray();
+                    inMembers = true;
+                    return;
+                }
+                in.skipValue();
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+    }
+
+    private String nextStringOrNull() throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+}
@@ -0,0 +1,62 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * {@link TeamWriter} on top of Gson's <code>JsonWriter</code>.
+ *
+ */
+public class GsonTeamWriter implements TeamWriter {
+
+    private final Gson gson;
+    private final int bufferSize;
+    private final TypeAdapter<Staff> staffAdapter;
+    private final TypeAdapter<LocalDate> dateAdapter;
+
+    public GsonTeamWriter(Gson gson) {
+        this(gson, DEFAULT_BUFFER_SIZE);
+    }
+
+    public GsonTeamWriter(Gson gson, int bufferSize) {
+        this.gson = gson;
+        this.bufferSize = bufferSize;
+        this.staffAdapter = gson.getAdapter(Staff.class);
+        this.dateAdapter = gson.getAdapter(LocalDate.class);
+    }
+
+    @Override
+    public void write(Team header, Iterator<? extends Staff> members,
+            OutputStream out) throws IOException {
+        // gson's settings (serializeNulls, htmlSafe, ...) apply to the writer.
+        JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(
+                new ChunkedOutputStream(out, bufferSize),
+                StandardCharsets.UTF_8));
+
+        writer.beginObject();
+        writer.name(TeamFields.NAME).value(header.getName());
+        writer.name(TeamFields.START_AT);
+        dateAdapter.write(writer, header.getStartAt());
+
+        writer.name(TeamFields.MEMBERS).beginArray();
+        while (members.hasNext()) {
+            staffAdapter.write(writer, members.next());
+        }
+        writer.endArray();
+
+        writer.endObject();
+        writer.flush();
+    }
+
+}
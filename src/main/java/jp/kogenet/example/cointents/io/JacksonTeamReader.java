@@ -0,0 +1,175 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * {@link TeamReader} on top of Jackson's streaming <code>JsonParser</code>.
+ *
+ * <p>
+ * Given a {@link StaffProjection}, members are read with the selected fields
+ * only.
+ * </p>
+ */
+public class JacksonTeamReader implements TeamReader {
+
+    private final JsonParser parser;
+    private final ObjectReader staffReader;
+    private final ObjectReader dateReader;
+    private final StaffProjection projection;
+    private final ObjectReader[] projectionReaders;
+
+    private String name;
+    private LocalDate startAt;
+    private boolean inMembers;
+
+    public JacksonTeamReader(ObjectMapper mapper, JsonParser parser)
+            throws IOException {
+        this(mapper, parser, null);
+    }
+
+    /**
+     * @param projection the member fields to read, or <code>null</code> for
+     *                   all of them.
+     */
+    public JacksonTeamReader(ObjectMapper mapper, JsonParser parser,
+            StaffProjection projection) throws IOException {
+        this.parser = parser;
+        this.staffReader = mapper.readerFor(Staff.class);
+        this.dateReader = mapper.readerFor(LocalDate.class);
+        this.projection = projection;
+        this.projectionReaders = (projection != null)
+                ? projection.readers(mapper)
+                : null;
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a Team object but was "
+                    + parser.currentToken() + " at "
+                    + parser.getCurrentLocation());
+        }
+        readHeader();
+    }
+
+    public static JacksonTeamReader open(ObjectMapper mapper,
+            InputStream stream) throws IOException {
+        return open(mapper, stream, null);
+    }
+
+    public static JacksonTeamReader open(ObjectMapper mapper, Path path)
+            throws IOException {
+        return open(mapper, Files.newInputStream(path));
+    }
+
+    /**
+     * Opens a reader on <code>stream</code>, which is closed if the header
+     * cannot be read.
+     */
+    public static JacksonTeamReader open(ObjectMapper mapper,
+            InputStream stream, StaffProjection projection)
+            throws IOException {
+        JsonParser parser = null;
+        try {
+            parser = mapper.getFactory().createParser(stream);
+            return new JacksonTeamReader(mapper, parser, projection);
+        } catch (IOException | RuntimeException e) {
+            TeamReaders.closeOnFailure((parser != null) ? parser : stream, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a whole team, members holding only <code>fields</code>, and
+     * closes <code>stream</code>.
+     */
+    public static Team readTeam(ObjectMapper mapper, InputStream stream,
+            String... fields) throws IOException {
+        return readTeam(mapper, stream, StaffProjection.of(fields));
+    }
+
+    public static Team readTeam(ObjectMapper mapper, InputStream stream,
+            StaffProjection projection) throws IOException {
+        try (var reader = open(mapper, stream, projection)) {
+            return TeamReaders.readAll(reader);
+        }
+    }
+
+    @Override
+    public Team getHeader() {
+        return Team.builder().name(name).startAt(startAt).build();
+    }
+
+    @Override
+    public Staff nextMember() throws IOException {
+        if (!inMembers) {
+            return null;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException(
+                        "Unexpected end of input in " + TeamFields.MEMBERS
+                                + " at " + parser.getCurrentLocation());
+            }
+            if (token == JsonToken.START_OBJECT && projection != null) {
+                return projection.read(parser, projectionReaders);
+            }
+            if (token != JsonToken.VALUE_NULL) {
+                return staffReader.readValue(parser);
+            }
+        }
+
+        inMembers = false;
+        readHeader();
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * Reads fields until the start of <code>members</code> or the end of the
+     * object.
+     */
+    private void readHeader() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+            case TeamFields.NAME:
+                if (token.isStructStart()) {
+                    throw new IOException("Expected a name string but was "
+                            + token + " at " + parser.getCurrentLocation());
+                }
+                name = parser.getValueAsString();
+                break;
+            case TeamFields.START_AT:
+                startAt = (token == JsonToken.VALUE_NULL) ? null
+                        : dateReader.readValue(parser);
+                break;
+            case TeamFields.MEMBERS:
+                if (token == JsonToken.START_ARRAY) {
+                    inMembers = true;
+                    return;
+                }
+                parser.skipChildren();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * {@link TeamWriter} on top of Jackson's streaming <code>JsonGenerator</code>.
+ *
+ */
+public class JacksonTeamWriter implements TeamWriter {
+
+    private final ObjectWriter writer;
+    private final ObjectWriter staffWriter;
+    private final ObjectWriter dateWriter;
+    private final int bufferSize;
+
+    public JacksonTeamWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JacksonTeamWriter(ObjectMapper mapper, int bufferSize) {
+        // flush once at the end, not after every member.
+        this.writer = mapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.staffWriter = writer.forType(Staff.class);
+        this.dateWriter = writer.forType(LocalDate.class);
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void write(Team header, Iterator<? extends Staff> members,
+            OutputStream out) throws IOException {
+        try (JsonGenerator generator = writer
+                .createGenerator(new ChunkedOutputStream(out, bufferSize))
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            generator.writeStartObject();
+            generator.writeStringField(TeamFields.NAME,
+                    header.getName());
+            generator.writeFieldName(TeamFields.START_AT);
+            dateWriter.writeValue(generator, header.getStartAt());
+
+            generator.writeArrayFieldStart(TeamFields.MEMBERS);
+            while (members.hasNext()) {
+                staffWriter.writeValue(generator, members.next());
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -0,0 +1,220 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import jp.kogenet.example.cointents.models.Staff;
+
+/**
+ * Random access to the members of a large Team JSON file.
+ *
+ * <p>
+ * The file is memory-mapped and described by a {@link TeamIndex} kept in a
+ * sidecar file (<code>data.json.idx</code> by default), which is built on the
+ * first open and again whenever the file's size or modification time
+ * changes. If the sidecar cannot be read, the index is rebuilt; if it cannot
+ * be written, the index is kept in memory only. Only the requested members
+ * are deserialized, each from its own slice of the mapping, so a lookup
+ * costs the same in a small file as in a multi-gigabyte one. Thread-safe.
+ * </p>
+ *
+ * <pre>
+ * try (var file = MappedTeamFile.open(ContentMappers.mapper(), path)) {
+ *     Staff staff = file.member(123456);
+ *     List&lt;Staff&gt; bobs = file.membersNamed("Bob");
+ * }
+ * </pre>
+ */
+public class MappedTeamFile implements Closeable {
+
+    /** Bytes mapped per buffer, a mapping being limited to 2 GiB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int segmentSize;
+    private final TeamIndex index;
+    private final ObjectReader staffReader;
+
+    private MappedTeamFile(FileChannel channel, MappedByteBuffer[] segments,
+            int segmentSize, TeamIndex index, ObjectReader staffReader) {
+        this.channel = channel;
+        this.segments = segments;
+        this.segmentSize = segmentSize;
+        this.index = index;
+        this.staffReader = staffReader;
+    }
+
+    /** The sidecar index used by {@link #open(ObjectMapper, Path)}. */
+    public static Path indexPath(Path path) {
+        return path.resolveSibling(path.getFileName() + INDEX_SUFFIX);
+    }
+
+    public static MappedTeamFile open(ObjectMapper mapper, Path path)
+            throws IOException {
+        return open(mapper, path, indexPath(path));
+    }
+
+    public static MappedTeamFile open(ObjectMapper mapper, Path path,
+            Path indexPath) throws IOException {
+        return open(mapper, path, indexPath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param indexPath   where the index is read from, or saved to when it is
+     *                    missing, unreadable or stale. If it cannot be saved,
+     *                    the index is kept in memory only.
+     * @param segmentSize bytes mapped per buffer.
+     */
+    public static MappedTeamFile open(ObjectMapper mapper, Path path,
+            Path indexPath, int segmentSize) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize <= 0");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long modified = Files.getLastModifiedTime(path).toMillis();
+
+            var segments = new MappedByteBuffer[(int) ((size + segmentSize - 1)
+                    / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, Math.min(segmentSize, size - position));
+            }
+
+            TeamIndex index = TeamIndex.read(indexPath);
+            if (index == null || !index.matches(size, modified)) {
+                index = TeamIndex.build(mapper.getFactory(),
+                        new SegmentInputStream(segments), size, modified);
+                try {
+                    index.write(indexPath);
+                } catch (IOException e) {
+                    // e.g. a read-only directory; rebuilt on the next open.
+                }
+            }
+
+            return new MappedTeamFile(channel, segments, segmentSize, index,
+                    mapper.readerFor(Staff.class));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public TeamIndex getIndex() {
+        return index;
+    }
+
+    /** The number of members. */
+    public int size() {
+        return index.size();
+    }
+
+    /** Deserializes the <code>index</code>-th member. */
+    public Staff member(int index) throws IOException {
+        try (InputStream in = slice(this.index.start(index),
+                this.index.length(index))) {
+            return staffReader.readValue(in);
+        }
+    }
+
+    /** Deserializes the members named <code>name</code>, in file order. */
+    public List<Staff> membersNamed(String name) throws IOException {
+        int[] found = index.indexesOf(name);
+        var members = new ArrayList<Staff>(found.length);
+        for (int i : found) {
+            members.add(member(i));
+        }
+        return members;
+    }
+
+    /**
+     * Closes the file. The mappings themselves are released once they are
+     * garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private InputStream slice(long start, int length) {
+        int segment = (int) (start / segmentSize);
+        int offset = (int) (start % segmentSize);
+        if (offset + length <= segments[segment].capacity()) {
+            ByteBuffer buffer = segments[segment].duplicate();
+            buffer.limit(offset + length).position(offset);
+            return new ByteBufferBackedInputStream(buffer);
+        }
+
+        // spans two or more segments; rare enough to copy.
+        var bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            ByteBuffer buffer = segments[segment++].duplicate();
+            buffer.position(offset);
+            int count = Math.min(buffer.remaining(), length - copied);
+            buffer.get(bytes, copied, count);
+            copied += count;
+            offset = 0;
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /** Reads the segments one after another, for building the index. */
+    private static class SegmentInputStream extends InputStream {
+        private final MappedByteBuffer[] segments;
+        private int segment;
+        private ByteBuffer current;
+
+        SegmentInputStream(MappedByteBuffer[] segments) {
+            this.segments = segments;
+        }
+
+        private boolean advance() {
+            while (current == null || !current.hasRemaining()) {
+                if (segment == segments.length) {
+                    return false;
+                }
+                current = segments[segment++].duplicate();
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            return advance() ? current.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!advance()) {
+                return -1;
+            }
+            int count = Math.min(len, current.remaining());
+            current.get(b, off, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import jp.kogenet.example.cointents.models.Staff;
+
+/**
+ * Encodes members in chunks on an executor and writes the chunks in order.
+ *
+ * <p>
+ * Members are taken from the iterator in chunks of <code>chunkSize</code>,
+ * and each chunk is encoded into a pooled buffer. The calling thread writes
+ * the buffers in order, with <code>separator</code> between chunks. At most
+ * <code>maxInFlight</code> chunks are in flight at a time, and their buffers
+ * are reused across chunks and calls. Thread-safe.
+ * </p>
+ */
+final class OrderedChunkWriter {
+
+    interface ChunkEncoder {
+        void encode(List<Staff> chunk, OutputStream out) throws IOException;
+    }
+
+    private final ChunkEncoder encoder;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final byte[] separator;
+    private final Queue<ByteArrayOutputStream> buffers = new ConcurrentLinkedQueue<>();
+
+    OrderedChunkWriter(ChunkEncoder encoder, Executor executor, int chunkSize,
+            int maxInFlight, byte[] separator) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize <= 0");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight <= 0");
+        }
+        this.encoder = encoder;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.separator = separator.clone();
+    }
+
+    /** Writes every member. <code>out</code> is neither flushed nor closed. */
+    void write(Iterator<? extends Staff> members, OutputStream out)
+            throws IOException {
+        var pending = new ArrayDeque<CompletableFuture<ByteArrayOutputStream>>();
+        boolean first = true;
+        try {
+            while (members.hasNext()) {
+                final var chunk = new ArrayList<Staff>(chunkSize);
+                while (chunk.size() < chunkSize && members.hasNext()) {
+                    chunk.add(members.next());
+                }
+                pending.add(CompletableFuture.supplyAsync(() -> encode(chunk),
+                        executor));
+
+                if (pending.size() >= maxInFlight) {
+                    writeChunk(pending.poll(), out, first);
+                    first = false;
+                }
+            }
+            while (!pending.isEmpty()) {
+                writeChunk(pending.poll(), out, first);
+                first = false;
+            }
+        } finally {
+            // only left over when a chunk failed.
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private ByteArrayOutputStream encode(List<Staff> chunk) {
+        var buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new ByteArrayOutputStream(TeamWriter.DEFAULT_BUFFER_SIZE);
+        }
+        try {
+            encoder.encode(chunk, buffer);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeChunk(CompletableFuture<ByteArrayOutputStream> future,
+            OutputStream out, boolean first) throws IOException {
+        ByteArrayOutputStream buffer = join(future);
+        if (!first) {
+            out.write(separator);
+        }
+        buffer.writeTo(out);
+        buffer.reset();
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Waits for <code>future</code>, rethrowing an
+     * <code>UncheckedIOException</code> of the task as its cause.
+     */
+    static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+}
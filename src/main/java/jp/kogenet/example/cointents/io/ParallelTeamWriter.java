@@ -0,0 +1,164 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * {@link TeamWriter} that encodes the members in parallel.
+ *
+ * <p>
+ * Members are taken from the iterator in chunks of <code>chunkSize</code>,
+ * and each chunk is encoded on a <code>ForkJoinPool</code> into a pooled
+ * buffer with the given Gson or Jackson configuration. The calling thread
+ * writes the chunks in order, so the output is the same as that of
+ * {@link GsonTeamWriter} or {@link JacksonTeamWriter}. At most twice the
+ * pool's parallelism chunks are in flight at a time, and their buffers are
+ * reused across chunks and calls.
+ * </p>
+ */
+public class ParallelTeamWriter implements TeamWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private interface Encoder {
+        /** Writes the header up to and including the members' '['. */
+        void header(Team header, OutputStream out) throws IOException;
+
+        /** Writes <code>chunk</code> separated by commas. */
+        void members(List<Staff> chunk, OutputStream out) throws IOException;
+    }
+
+    private final Encoder encoder;
+    private final OrderedChunkWriter chunkWriter;
+
+    public ParallelTeamWriter(ObjectMapper mapper) {
+        this(mapper, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelTeamWriter(ObjectMapper mapper, ForkJoinPool pool,
+            int chunkSize) {
+        this(jacksonEncoder(mapper), pool, chunkSize);
+    }
+
+    public ParallelTeamWriter(Gson gson) {
+        this(gson, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelTeamWriter(Gson gson, ForkJoinPool pool, int chunkSize) {
+        this(gsonEncoder(gson), pool, chunkSize);
+    }
+
+    private ParallelTeamWriter(Encoder encoder, ForkJoinPool pool,
+            int chunkSize) {
+        this.encoder = encoder;
+        this.chunkWriter = new OrderedChunkWriter(encoder::members, pool,
+                chunkSize, Math.max(2, pool.getParallelism() * 2),
+                new byte[] { ',' });
+    }
+
+    private static Encoder jacksonEncoder(ObjectMapper mapper) {
+        var writer = mapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        ObjectWriter staffWriter = writer.forType(Staff.class);
+        ObjectWriter dateWriter = writer.forType(LocalDate.class);
+
+        return new Encoder() {
+            @Override
+            public void header(Team header, OutputStream out)
+                    throws IOException {
+                // closing leaves the object and the array open.
+                try (JsonGenerator generator = writer.createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .disable(
+                                JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                    generator.writeStartObject();
+                    generator.writeStringField(TeamFields.NAME,
+                            header.getName());
+                    generator.writeFieldName(TeamFields.START_AT);
+                    dateWriter.writeValue(generator, header.getStartAt());
+                    generator.writeArrayFieldStart(TeamFields.MEMBERS);
+                }
+            }
+
+            @Override
+            public void members(List<Staff> chunk, OutputStream out)
+                    throws IOException {
+                try (JsonGenerator generator = writer.createGenerator(out)) {
+                    generator.setRootValueSeparator(null);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        if (i > 0) {
+                            generator.writeRaw(',');
+                        }
+                        staffWriter.writeValue(generator, chunk.get(i));
+                    }
+                }
+            }
+        };
+    }
+
+    private static Encoder gsonEncoder(Gson gson) {
+        TypeAdapter<Staff> staffAdapter = gson.getAdapter(Staff.class);
+        TypeAdapter<LocalDate> dateAdapter = gson.getAdapter(LocalDate.class);
+
+        return new Encoder() {
+            @Override
+            public void header(Team header, OutputStream out)
+                    throws IOException {
+                // not closed, as the document is incomplete.
+                JsonWriter writer = gson.newJsonWriter(
+                        new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.beginObject();
+                writer.name(TeamFields.NAME).value(header.getName());
+                writer.name(TeamFields.START_AT);
+                dateAdapter.write(writer, header.getStartAt());
+                writer.name(TeamFields.MEMBERS).beginArray();
+                writer.flush();
+            }
+
+            @Override
+            public void members(List<Staff> chunk, OutputStream out)
+                    throws IOException {
+                Writer text = new OutputStreamWriter(out,
+                        StandardCharsets.UTF_8);
+                JsonWriter writer = gson.newJsonWriter(text);
+                writer.setLenient(true); // allow multiple top-level values.
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (i > 0) {
+                        text.write(',');
+                    }
+                    staffAdapter.write(writer, chunk.get(i));
+                }
+                writer.flush();
+            }
+        };
+    }
+
+    @Override
+    public void write(Team header, Iterator<? extends Staff> members,
+            OutputStream out) throws IOException {
+        var target = new ChunkedOutputStream(out, DEFAULT_BUFFER_SIZE);
+        encoder.header(header, target);
+        chunkWriter.write(members, target);
+        target.write(']');
+        target.write('}');
+        target.flush();
+    }
+}
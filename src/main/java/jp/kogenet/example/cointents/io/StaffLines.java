@@ -0,0 +1,415 @@
+package jp.kogenet.example.cointents.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import jp.kogenet.example.cointents.models.Staff;
+
+/**
+ * Reads and writes <code>Staff</code> as JSON lines (NDJSON), one member per
+ * line, with the given Gson or Jackson configuration.
+ *
+ * <p>
+ * The reading thread splits the input on newlines into blocks of about
+ * <code>blockSize</code> bytes and hands each block to the executor, which
+ * parses its lines. At most <code>maxInFlight</code> blocks are read ahead of
+ * the consumer, so memory stays bounded and a slow consumer holds back the
+ * input instead of queueing it. {@link #read(InputStream)} returns members in
+ * input order; {@link #readUnordered(InputStream)} returns each block as soon
+ * as it is parsed. Blank lines are skipped and <code>\r\n</code> is accepted.
+ * </p>
+ *
+ * <p>
+ * Writing encodes chunks of members on the executor and writes them in
+ * order, one compact line each. Thread-safe.
+ * </p>
+ */
+public class StaffLines {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private interface Codec {
+        Staff decode(byte[] bytes, int offset, int length) throws IOException;
+
+        /** Writes <code>chunk</code>, each member followed by a newline. */
+        void encode(List<? extends Staff> chunk, OutputStream out)
+                throws IOException;
+    }
+
+    /** A run of whole lines starting at <code>offset</code> in the input. */
+    private static final class Block {
+        final byte[] bytes;
+        final int length;
+        final long offset;
+
+        Block(byte[] bytes, int length, long offset) {
+            this.bytes = bytes;
+            this.length = length;
+            this.offset = offset;
+        }
+    }
+
+    private final Codec codec;
+    private final Executor executor;
+    private final int blockSize;
+    private final int maxInFlight;
+    private final OrderedChunkWriter chunkWriter;
+
+    public StaffLines(ObjectMapper mapper) {
+        this(mapper, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE,
+                defaultMaxInFlight());
+    }
+
+    /**
+     * @param executor    runs the parsing and encoding.
+     * @param blockSize   bytes of input per parsing task.
+     * @param maxInFlight blocks, or chunks when writing, submitted ahead of
+     *                    the consumer.
+     */
+    public StaffLines(ObjectMapper mapper, Executor executor, int blockSize,
+            int maxInFlight) {
+        this(jacksonCodec(mapper), executor, blockSize, maxInFlight);
+    }
+
+    public StaffLines(Gson gson) {
+        this(gson, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE,
+                defaultMaxInFlight());
+    }
+
+    public StaffLines(Gson gson, Executor executor, int blockSize,
+            int maxInFlight) {
+        this(gsonCodec(gson), executor, blockSize, maxInFlight);
+    }
+
+    private StaffLines(Codec codec, Executor executor, int blockSize,
+            int maxInFlight) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize <= 0");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight <= 0");
+        }
+        this.codec = codec;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxInFlight = maxInFlight;
+        this.chunkWriter = new OrderedChunkWriter(codec::encode, executor,
+                CHUNK_SIZE, maxInFlight, new byte[0]);
+    }
+
+    private static int defaultMaxInFlight() {
+        return Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+    }
+
+    private static Codec jacksonCodec(ObjectMapper mapper) {
+        ObjectReader staffReader = mapper.readerFor(Staff.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        // one line per member, whatever the mapper's indentation.
+        ObjectWriter staffWriter = mapper.writerFor(Staff.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return new Codec() {
+            @Override
+            public Staff decode(byte[] bytes, int offset, int length)
+                    throws IOException {
+                return staffReader.readValue(bytes, offset, length);
+            }
+
+            @Override
+            public void encode(List<? extends Staff> chunk, OutputStream out)
+                    throws IOException {
+                try (JsonGenerator generator = staffWriter
+                        .createGenerator(out)) {
+                    generator.setRootValueSeparator(null);
+                    for (Staff staff : chunk) {
+                        staffWriter.writeValue(generator, staff);
+                        generator.writeRaw('\n');
+                    }
+                }
+            }
+        };
+    }
+
+    private static Codec gsonCodec(Gson gson) {
+        TypeAdapter<Staff> staffAdapter = gson.getAdapter(Staff.class);
+
+        return new Codec() {
+            @Override
+            public Staff decode(byte[] bytes, int offset, int length)
+                    throws IOException {
+                JsonReader reader = gson.newJsonReader(new InputStreamReader(
+                        new ByteArrayInputStream(bytes, offset, length),
+                        UTF_8));
+                try {
+                    Staff staff = staffAdapter.read(reader);
+                    if (reader.peek() != JsonToken.END_DOCUMENT) {
+                        throw new IOException("Unexpected content after "
+                                + "the Staff at " + reader.getPath());
+                    }
+                    return staff;
+                } catch (JsonParseException | IllegalStateException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public void encode(List<? extends Staff> chunk, OutputStream out)
+                    throws IOException {
+                Writer text = new OutputStreamWriter(out, UTF_8);
+                JsonWriter writer = gson.newJsonWriter(text);
+                writer.setIndent(""); // one line per member.
+                writer.setLenient(true); // allow multiple top-level values.
+                for (Staff staff : chunk) {
+                    staffAdapter.write(writer, staff);
+                    text.write('\n');
+                }
+                writer.flush();
+            }
+        };
+    }
+
+    /**
+     * Returns the members of <code>in</code> in input order, as a lazy stream
+     * which closes <code>in</code> when it is closed. Errors are thrown as
+     * <code>UncheckedIOException</code>.
+     */
+    public Stream<Staff> read(InputStream in) {
+        return stream(new LineReader(in, true));
+    }
+
+    /**
+     * Like {@link #read(InputStream)}, but blocks come out in the order they
+     * finish parsing. Lines within a block keep their order.
+     */
+    public Stream<Staff> readUnordered(InputStream in) {
+        return stream(new LineReader(in, false));
+    }
+
+    /** Writes one line per member. <code>out</code> is flushed, not closed. */
+    public void write(Iterator<? extends Staff> members, OutputStream out)
+            throws IOException {
+        chunkWriter.write(members, out);
+        out.flush();
+    }
+
+    public void write(Stream<? extends Staff> members, OutputStream out)
+            throws IOException {
+        write(members.iterator(), out);
+    }
+
+    private List<Staff> parse(Block block) {
+        var members = new ArrayList<Staff>();
+        byte[] bytes = block.bytes;
+        int start = 0;
+        while (start < block.length) {
+            int end = start;
+            while (end < block.length && bytes[end] != '\n') {
+                end++;
+            }
+            // trim '\r' and other whitespace around the line.
+            int from = start;
+            int to = end;
+            while (from < to && bytes[from] <= ' ') {
+                from++;
+            }
+            while (to > from && bytes[to - 1] <= ' ') {
+                to--;
+            }
+            if (from < to) {
+                Staff staff;
+                try {
+                    staff = codec.decode(bytes, from, to - from);
+                } catch (IOException e) {
+                    throw invalidLine(block.offset + start, e);
+                }
+                // a null line would end the stream early.
+                if (staff == null) {
+                    throw invalidLine(block.offset + start, null);
+                }
+                members.add(staff);
+            }
+            start = end + 1;
+        }
+        return members;
+    }
+
+    private static UncheckedIOException invalidLine(long offset,
+            IOException cause) {
+        return new UncheckedIOException(new IOException(
+                "Invalid Staff line at byte " + offset, cause));
+    }
+
+    private static Stream<Staff> stream(LineReader reader) {
+        var spliterator = new Spliterators.AbstractSpliterator<Staff>(
+                Long.MAX_VALUE, Spliterator.NONNULL | (reader.ordered
+                        ? Spliterator.ORDERED
+                        : 0)) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Staff> action) {
+                try {
+                    Staff staff = reader.next();
+                    if (staff == null) {
+                        return false;
+                    }
+                    action.accept(staff);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** Splits one input into blocks and collects the parsed members. */
+    private final class LineReader {
+        final InputStream in;
+        final boolean ordered;
+
+        /** Every block not yet taken, in submission order. */
+        final ArrayDeque<CompletableFuture<List<Staff>>> pending = new ArrayDeque<>();
+        /** In completion order when unordered. */
+        final BlockingQueue<CompletableFuture<List<Staff>>> completed = new LinkedBlockingQueue<>();
+
+        byte[] carry = new byte[0];
+        long offset;
+        boolean eof;
+        Iterator<Staff> current = Collections.emptyIterator();
+
+        LineReader(InputStream in, boolean ordered) {
+            this.in = in;
+            this.ordered = ordered;
+        }
+
+        Staff next() throws IOException {
+            while (!current.hasNext()) {
+                fill();
+                if (pending.isEmpty()) {
+                    return null;
+                }
+                try {
+                    CompletableFuture<List<Staff>> future;
+                    if (ordered) {
+                        future = pending.poll();
+                    } else {
+                        future = completed.take();
+                        pending.remove(future);
+                    }
+                    current = OrderedChunkWriter.join(future).iterator();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted", e);
+                }
+            }
+            return current.next();
+        }
+
+        /** Submits blocks until <code>maxInFlight</code> are pending. */
+        private void fill() throws IOException {
+            while (!eof && pending.size() < maxInFlight) {
+                Block block = readBlock();
+                if (block == null) {
+                    break;
+                }
+                var future = CompletableFuture
+                        .supplyAsync(() -> parse(block), executor);
+                pending.add(future);
+                if (!ordered) {
+                    future.whenComplete((members, e) -> completed.add(future));
+                }
+            }
+        }
+
+        /** Reads up to the last newline within about a block of input. */
+        private Block readBlock() throws IOException {
+            byte[] bytes = Arrays.copyOf(carry,
+                    Math.max(blockSize, carry.length * 2));
+            int length = carry.length;
+            int end;
+            while (true) {
+                length += in.readNBytes(bytes, length, bytes.length - length);
+                if (length < bytes.length) {
+                    eof = true;
+                    end = length;
+                    break;
+                }
+                end = lastNewline(bytes, length) + 1;
+                if (end > 0) {
+                    break;
+                }
+                // a line longer than the block.
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+
+            carry = Arrays.copyOfRange(bytes, end, length);
+            if (end == 0) {
+                return null;
+            }
+            var block = new Block(bytes, end, offset);
+            offset += end;
+            return block;
+        }
+
+        private int lastNewline(byte[] bytes, int length) {
+            for (int i = length - 1; i >= 0; i--) {
+                if (bytes[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /** Cancels the blocks still queued on the executor. */
+        void close() throws IOException {
+            pending.forEach(future -> future.cancel(false));
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import jp.kogenet.example.cointents.models.Staff;
+
+/**
+ * A compiled set of <code>Staff</code> fields to decode.
+ *
+ * <p>
+ * Readers given a projection build each member from the selected fields only
+ * and skip the others at parse time with <code>skipChildren()</code> or
+ * <code>skipValue()</code>, so unused lists, maps and dates are never
+ * decoded. Fields not selected are left <code>null</code> (or
+ * <code>0</code>). Immutable and thread-safe; compile it once and reuse it.
+ * </p>
+ *
+ * <pre>
+ * var projection = StaffProjection.of("name", "last_update_at");
+ * Team team = JacksonTeamReader.readTeam(mapper, in, projection);
+ * </pre>
+ */
+public final class StaffProjection {
+
+    /** <code>Staff</code> properties by their JSON name. */
+    enum Property {
+        // @formatter:off
+        NAME("name", "name", (s, v) -> s.setName((String) v)),
+        NUM_OF_YEARS("num_of_years", "numOfYears",
+                (s, v) -> s.setNumOfYears((Integer) v)),
+        POSITION("position", "position",
+                (s, v) -> s.setPosition((String[]) v)),
+        SKILLS("skills", "skills", (s, v) -> s.setSkills(cast(v))),
+        SALARY("salary", "salary", (s, v) -> s.setSalary(cast(v))),
+        BIRTHDAY("birthday", "birthday",
+                (s, v) -> s.setBirthday(cast(v))),
+        LAST_UPDATE_AT("last_update_at", "lastUpdateAt",
+                (s, v) -> s.setLastUpdateAt(cast(v)));
+        // @formatter:on
+
+        final String jsonName;
+        final Type type;
+        final BiConsumer<Staff, Object> setter;
+
+        Property(String jsonName, String fieldName,
+                BiConsumer<Staff, Object> setter) {
+            this.jsonName = jsonName;
+            this.setter = setter;
+            try {
+                this.type = Staff.class.getDeclaredField(fieldName)
+                        .getGenericType();
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T cast(Object value) {
+            return (T) value;
+        }
+    }
+
+    private static final Map<String, Property> PROPERTIES = Arrays
+            .stream(Property.values())
+            .collect(Collectors.toMap(p -> p.jsonName, p -> p));
+
+    private final Set<Property> properties;
+    private final Map<String, Property> selected;
+
+    private StaffProjection(Set<Property> properties) {
+        this.properties = properties;
+        this.selected = new HashMap<>();
+        for (Property property : properties) {
+            selected.put(property.jsonName, property);
+        }
+    }
+
+    /**
+     * @param fields JSON names such as <code>name</code> and
+     *               <code>last_update_at</code>.
+     * @throws IllegalArgumentException if a field is not a
+     *                                  <code>Staff</code> field.
+     */
+    public static StaffProjection of(String... fields) {
+        var properties = EnumSet.noneOf(Property.class);
+        for (String field : fields) {
+            Property property = PROPERTIES.get(field);
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown Staff field "
+                        + field + ", expected one of " + PROPERTIES.keySet());
+            }
+            properties.add(property);
+        }
+        return new StaffProjection(properties);
+    }
+
+    /** The selected JSON field names. */
+    public Set<String> getFields() {
+        return Collections.unmodifiableSet(selected.keySet());
+    }
+
+    /** Readers for the selected properties, indexed by ordinal. */
+    ObjectReader[] readers(ObjectMapper mapper) {
+        var readers = new ObjectReader[Property.values().length];
+        for (Property property : properties) {
+            readers[property.ordinal()] = mapper.readerFor(
+                    mapper.getTypeFactory().constructType(property.type));
+        }
+        return readers;
+    }
+
+    /** Adapters for the selected properties, indexed by ordinal. */
+    TypeAdapter<?>[] adapters(Gson gson) {
+        var adapters = new TypeAdapter<?>[Property.values().length];
+        for (Property property : properties) {
+            adapters[property.ordinal()] = gson
+                    .getAdapter(TypeToken.get(property.type));
+        }
+        return adapters;
+    }
+
+    /**
+     * Reads a member whose <code>START_OBJECT</code> is the current token.
+     */
+    Staff read(JsonParser parser, ObjectReader[] readers) throws IOException {
+        var staff = new Staff();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Property property = selected.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (property == null) {
+                parser.skipChildren();
+            } else if (token != JsonToken.VALUE_NULL) {
+                property.setter.accept(staff,
+                        readers[property.ordinal()].readValue(parser));
+            }
+        }
+        return staff;
+    }
+
+    /** Reads a member that starts at the next token. */
+    Staff read(JsonReader in, TypeAdapter<?>[] adapters) throws IOException {
+        var staff = new Staff();
+        in.beginObject();
+        while (in.hasNext()) {
+            Property property = selected.get(in.nextName());
+            if (property == null) {
+                in.skipValue();
+            } else if (in.peek() == com.google.gson.stream.JsonToken.NULL) {
+                in.nextNull();
+            } else {
+                property.setter.accept(staff,
+                        adapters[property.ordinal()].read(in));
+            }
+        }
+        in.endObject();
+        return staff;
+    }
+}
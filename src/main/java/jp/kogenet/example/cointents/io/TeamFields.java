@@ -0,0 +1,14 @@
+package jp.kogenet.example.cointents.io;
+
+/**
+ * JSON field names of <code>Team</code>.
+ *
+ */
+final class TeamFields {
+    static final String NAME = "name";
+    static final String START_AT = "start_at";
+    static final String MEMBERS = "members";
+
+    private TeamFields() {
+    }
+}
@@ -0,0 +1,284 @@
+package jp.kogenet.example.cointents.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Byte offsets and names of the <code>members</code> of a Team JSON file.
+ *
+ * <p>
+ * Entry <code>i</code> is the <code>i</code>-th non-null member object:
+ * <code>[start(i), end(i))</code> is its slice of the file, and
+ * <code>name(i)</code> its <code>name</code> field. The index remembers the
+ * size and modification time of the file it was built from and can be saved
+ * next to it, see {@link MappedTeamFile}.
+ * </p>
+ */
+public final class TeamIndex {
+
+    private static final int MAGIC = 0x54494458; // "TIDX"
+    private static final int VERSION = 1;
+    /** Magic, version, source size and time, and member count. */
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    /** Start, length and name length of a member, before its name. */
+    private static final int ENTRY_BYTES = 8 + 4 + 4;
+
+    private final long sourceSize;
+    private final long sourceModified;
+    private final int size;
+    private final long[] starts;
+    private final int[] lengths;
+    private final String[] names;
+
+    /** Entry numbers with a name, sorted by name; built on first lookup. */
+    private volatile int[] byName;
+
+    private TeamIndex(long sourceSize, long sourceModified, int size,
+            long[] starts, int[] lengths, String[] names) {
+        this.sourceSize = sourceSize;
+        this.sourceModified = sourceModified;
+        this.size = size;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.names = names;
+    }
+
+    /**
+     * Scans a Team document for its members, skipping everything else.
+     *
+     * @param sourceSize     recorded to detect a stale index.
+     * @param sourceModified recorded to detect a stale index.
+     */
+    public static TeamIndex build(JsonFactory factory, InputStream in,
+            long sourceSize, long sourceModified) throws IOException {
+        int size = 0;
+        var starts = new long[1024];
+        var lengths = new int[1024];
+        var names = new String[1024];
+
+        try (JsonParser parser = factory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a Team object but was "
+                        + parser.currentToken() + " at "
+                        + parser.getCurrentLocation());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (!TeamFields.MEMBERS.equals(field)
+                        || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IOException("Unexpected end of input in "
+                                + TeamFields.MEMBERS + " at "
+                                + parser.getCurrentLocation());
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+
+                    long start = parser.getTokenLocation().getByteOffset();
+                    String name = null;
+                    // Staff's name has the same key as Team's.
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        boolean isName = TeamFields.NAME
+                                .equals(parser.getCurrentName());
+                        if (parser.nextToken() == JsonToken.VALUE_STRING
+                                && isName) {
+                            name = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    long end = parser.getCurrentLocation().getByteOffset();
+
+                    if (size == starts.length) {
+                        starts = Arrays.copyOf(starts, size * 2);
+                        lengths = Arrays.copyOf(lengths, size * 2);
+                        names = Arrays.copyOf(names, size * 2);
+                    }
+                    starts[size] = start;
+                    lengths[size] = Math.toIntExact(end - start);
+                    names[size] = name;
+                    size++;
+                }
+            }
+        }
+        return new TeamIndex(sourceSize, sourceModified, size, starts,
+                lengths, names);
+    }
+
+    /**
+     * Reads an index saved by {@link #write(Path)}.
+     *
+     * @return the index, or <code>null</code> if the file cannot be read or
+     *         is not a complete index.
+     */
+    public static TeamIndex read(Path path) {
+        try (var in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path)))) {
+            long remaining = Files.size(path) - HEADER_BYTES;
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long sourceSize = in.readLong();
+            long sourceModified = in.readLong();
+            int size = in.readInt();
+            // a corrupt count must not size the arrays.
+            if (size < 0 || size > remaining / ENTRY_BYTES) {
+                return null;
+            }
+            remaining -= (long) size * ENTRY_BYTES;
+            var starts = new long[size];
+            var lengths = new int[size];
+            var names = new String[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = in.readLong();
+                lengths[i] = in.readInt();
+                int nameLength = in.readInt();
+                if (starts[i] < 0 || lengths[i] < 0
+                        || starts[i] + lengths[i] > sourceSize
+                        || nameLength > remaining) {
+                    return null;
+                }
+                if (nameLength >= 0) {
+                    remaining -= nameLength;
+                    var bytes = new byte[nameLength];
+                    in.readFully(bytes);
+                    names[i] = new String(bytes, UTF_8);
+                }
+            }
+            return new TeamIndex(sourceSize, sourceModified, size, starts,
+                    lengths, names);
+        } catch (IOException e) {
+            // missing, truncated, unreadable or not a file: rebuilt instead.
+            return null;
+        }
+    }
+
+    /**
+     * Saves this index, replacing <code>path</code> only once it is
+     * complete.
+     */
+    public void write(Path path) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(),
+                path.getFileName().toString(), ".tmp");
+        try {
+            try (var out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(sourceSize);
+                out.writeLong(sourceModified);
+                out.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    out.writeLong(starts[i]);
+                    out.writeInt(lengths[i]);
+                    if (names[i] == null) {
+                        out.writeInt(-1);
+                    } else {
+                        var bytes = names[i].getBytes(UTF_8);
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Whether this index was built from a file of this size and time. */
+    public boolean matches(long sourceSize, long sourceModified) {
+        return this.sourceSize == sourceSize
+                && this.sourceModified == sourceModified;
+    }
+
+    /** The number of members. */
+    public int size() {
+        return size;
+    }
+
+    /** Offset of the member's opening brace. */
+    public long start(int index) {
+        return starts[checkIndex(index)];
+    }
+
+    /** Offset just past the member's closing brace. */
+    public long end(int index) {
+        return starts[checkIndex(index)] + lengths[index];
+    }
+
+    public int length(int index) {
+        return lengths[checkIndex(index)];
+    }
+
+    /** The member's <code>name</code>, or <code>null</code> if it has none. */
+    public String name(int index) {
+        return names[checkIndex(index)];
+    }
+
+    /** Entries whose name equals <code>name</code>, in file order. */
+    public int[] indexesOf(String name) {
+        if (name == null) {
+            return new int[0];
+        }
+        int[] sorted = byName();
+
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[sorted[mid]].compareTo(name) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < sorted.length && names[sorted[end]].equals(name)) {
+            end++;
+        }
+        return Arrays.copyOfRange(sorted, low, end);
+    }
+
+    private int[] byName() {
+        int[] sorted = byName;
+        if (sorted == null) {
+            // stable, so equal names stay in file order.
+            sorted = IntStream.range(0, size).filter(i -> names[i] != null)
+                    .boxed()
+                    .sorted(Comparator.comparing((Integer i) -> names[i]))
+                    .mapToInt(Integer::intValue).toArray();
+            byName = sorted;
+        }
+        return sorted;
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+}
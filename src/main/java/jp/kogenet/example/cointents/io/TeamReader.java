@@ -0,0 +1,56 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Reads a <code>Team</code> document one member at a time.
+ *
+ * <p>
+ * Only the current <code>Staff</code> is held in memory, so the size of
+ * <code>members</code> does not matter. <code>null</code> entries in
+ * <code>members</code> are skipped, so fewer members may be read than the
+ * array holds, unlike binding the whole <code>Team</code>.
+ * </p>
+ */
+public interface TeamReader extends Closeable {
+
+    /**
+     * Returns the team fields read so far, without <code>members</code>.
+     *
+     * <p>
+     * Fields placed before <code>members</code> are available right after
+     * opening, fields placed after it once all members have been read.
+     * </p>
+     */
+    Team getHeader();
+
+    /**
+     * Reads the next member.
+     *
+     * @return the member, or <code>null</code> at the end of
+     *         <code>members</code>.
+     */
+    Staff nextMember() throws IOException;
+
+    default void forEachMember(Consumer<? super Staff> action)
+            throws IOException {
+        Staff staff;
+        while ((staff = nextMember()) != null) {
+            action.accept(staff);
+        }
+    }
+
+    /**
+     * Returns the remaining members as a lazy stream which closes this reader
+     * when the stream is closed.
+     */
+    default Stream<Staff> members() {
+        return TeamReaders.stream(this);
+    }
+}
@@ -0,0 +1,69 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+final class TeamReaders {
+
+    private TeamReaders() {
+    }
+
+    /**
+     * Closes what a failed <code>open</code> leaves behind, keeping
+     * <code>failure</code> as the exception to throw.
+     */
+    static void closeOnFailure(Closeable resource, Throwable failure) {
+        try {
+            resource.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /** Reads the remaining members and returns the complete team. */
+    static Team readAll(TeamReader reader) throws IOException {
+        var members = new ArrayList<Staff>();
+        reader.forEachMember(members::add);
+        // fields after members are only known now.
+        Team header = reader.getHeader();
+        return Team.builder().name(header.getName())
+                .startAt(header.getStartAt()).members(members).build();
+    }
+
+    static Stream<Staff> stream(TeamReader reader) {
+        var spliterator = new Spliterators.AbstractSpliterator<Staff>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Staff> action) {
+                try {
+                    Staff staff = reader.nextMember();
+                    if (staff == null) {
+                        return false;
+                    }
+                    action.accept(staff);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
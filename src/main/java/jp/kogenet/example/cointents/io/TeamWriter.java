@@ -0,0 +1,49 @@
+package jp.kogenet.example.cointents.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * Writes a <code>Team</code> document while pulling the members from an
+ * iterator.
+ *
+ * <p>
+ * The output is the same as serializing the whole <code>Team</code>, but only
+ * the current <code>Staff</code> and one buffer of output are held in memory,
+ * and the target receives writes of at most <code>bufferSize</code> bytes.
+ * The target is flushed, not closed.
+ * </p>
+ */
+public interface TeamWriter {
+
+    int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Writes <code>header</code> (<code>members</code> is ignored) followed by
+     * <code>members</code>.
+     */
+    void write(Team header, Iterator<? extends Staff> members,
+            OutputStream out) throws IOException;
+
+    default void write(Team header, Stream<? extends Staff> members,
+            OutputStream out) throws IOException {
+        write(header, members.iterator(), out);
+    }
+
+    default void write(Team header, Iterator<? extends Staff> members,
+            WritableByteChannel channel) throws IOException {
+        write(header, members, Channels.newOutputStream(channel));
+    }
+
+    default void write(Team header, Stream<? extends Staff> members,
+            WritableByteChannel channel) throws IOException {
+        write(header, members.iterator(), channel);
+    }
+}
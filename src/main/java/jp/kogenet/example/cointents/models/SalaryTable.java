@@ -0,0 +1,161 @@
+package jp.kogenet.example.cointents.models;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable <code>Staff.salary</code> map held in primitive arrays.
+ *
+ * <p>
+ * Years are kept as sorted <code>int</code>s and amounts as
+ * <code>long</code> cents plus their original scale (0 to 2), so three
+ * entries take three small arrays instead of three <code>String</code>
+ * keys, <code>BigDecimal</code>s and hash nodes. Keys and values are created
+ * on access, and iteration is in ascending year order. Values read back
+ * equal, scale included, the ones put in.
+ * </p>
+ */
+public final class SalaryTable extends AbstractMap<String, BigDecimal> {
+
+    private static final int MAX_SCALE = 2;
+
+    private final int[] years;
+    private final long[] cents;
+    private final byte[] scales;
+
+    private SalaryTable(int[] years, long[] cents, byte[] scales) {
+        this.years = years;
+        this.cents = cents;
+        this.scales = scales;
+    }
+
+    /**
+     * Returns <code>map</code> as a <code>SalaryTable</code>, or
+     * <code>map</code> itself if some entry does not fit: a key that is not a
+     * plain <code>int</code>, a <code>null</code> value, more than two
+     * decimal places, or more cents than a <code>long</code> holds.
+     */
+    public static Map<String, BigDecimal> compact(Map<String, BigDecimal> map) {
+        if (map == null || map instanceof SalaryTable) {
+            return map;
+        }
+
+        int size = map.size();
+        var entries = new long[size][];
+        int i = 0;
+        for (Map.Entry<String, BigDecimal> entry : map.entrySet()) {
+            var year = parseYear(entry.getKey());
+            var value = entry.getValue();
+            if (year == null || value == null || value.scale() < 0
+                    || value.scale() > MAX_SCALE) {
+                return map;
+            }
+            try {
+                long amount = value.movePointRight(MAX_SCALE)
+                        .longValueExact();
+                entries[i++] = new long[] { year, amount, value.scale() };
+            } catch (ArithmeticException e) {
+                return map;
+            }
+        }
+
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        var years = new int[size];
+        var cents = new long[size];
+        var scales = new byte[size];
+        for (i = 0; i < size; i++) {
+            years[i] = (int) entries[i][0];
+            cents[i] = entries[i][1];
+            scales[i] = (byte) entries[i][2];
+        }
+        return new SalaryTable(years, cents, scales);
+    }
+
+    /** <code>null</code> unless <code>key</code> is how an int prints. */
+    private static Integer parseYear(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        var text = (String) key;
+        try {
+            int year = Integer.parseInt(text);
+            return String.valueOf(year).equals(text) ? year : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public BigDecimal get(int year) {
+        int index = Arrays.binarySearch(years, year);
+        return (index < 0) ? null : valueAt(index);
+    }
+
+    @Override
+    public BigDecimal get(Object key) {
+        var year = parseYear(key);
+        return (year == null) ? null : get(year.intValue());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var year = parseYear(key);
+        return year != null && Arrays.binarySearch(years, year) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return years.length;
+    }
+
+    public int yearAt(int index) {
+        return years[index];
+    }
+
+    /** The amount at <code>index</code> in hundredths. */
+    public long centsAt(int index) {
+        return cents[index];
+    }
+
+    public BigDecimal valueAt(int index) {
+        return BigDecimal.valueOf(cents[index], MAX_SCALE)
+                .setScale(scales[index]);
+    }
+
+    @Override
+    public Set<Map.Entry<String, BigDecimal>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, BigDecimal>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < years.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, BigDecimal> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = index++;
+                        return new SimpleImmutableEntry<>(
+                                String.valueOf(years[i]), valueAt(i));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return years.length;
+            }
+        };
+    }
+}
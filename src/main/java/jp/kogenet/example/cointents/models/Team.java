@@ -33,4 +33,13 @@ public class Team {
 
         return team;
     }
+
+    public static class TeamBuilder {
+        /**
+         * Public, as Afterburner instantiates the builder from a class of
+         * its own loader.
+         */
+        public TeamBuilder() {
+        }
+    }
 }
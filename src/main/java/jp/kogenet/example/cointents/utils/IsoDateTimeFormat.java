@@ -0,0 +1,332 @@
+package jp.kogenet.example.cointents.utils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Fast ISO-8601 formatting and parsing for the common shapes used in the
+ * content models.
+ *
+ * <p>
+ * The output is identical to <code>DateTimeFormatter.ISO_OFFSET_DATE_TIME</code>
+ * in UTC, e.g. <code>2018-01-12T04:14:15.167Z</code>, and to
+ * <code>ISO_LOCAL_DATE</code> and <code>ISO_LOCAL_DATE_TIME</code> for local
+ * values. Anything outside the fast path (years beyond 0000-9999, other
+ * offsets, ...) falls back to <code>java.time</code>.
+ * </p>
+ */
+public final class IsoDateTimeFormat {
+
+    /** Longest UTC value: <code>yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ</code>. */
+    public static final int MAX_UTC_LENGTH = 30;
+
+    /** Length of a date: <code>yyyy-MM-dd</code>. */
+    public static final int DATE_LENGTH = 10;
+
+    private static final DateTimeFormatter UTC_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME
+            .withZone(ZoneOffset.UTC);
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal
+            .withInitial(() -> new char[MAX_UTC_LENGTH]);
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_0000_TO_1970 = 719528;
+
+    private IsoDateTimeFormat() {
+    }
+
+    /**
+     * Returns a per-thread buffer of at least {@link #MAX_UTC_LENGTH} chars.
+     */
+    public static char[] buffer() {
+        return BUFFER.get();
+    }
+
+    /**
+     * Writes <code>value</code> in UTC to <code>buffer</code>.
+     *
+     * @return the end offset, or <code>-1</code> if the value is outside the
+     *         fast path.
+     */
+    public static int formatUTC(ZonedDateTime value, char[] buffer,
+            int offset) {
+        long epochSecond = value.toEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // civil-from-days (same algorithm as LocalDate.ofEpochDay).
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / 146097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146097;
+        }
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay
+                - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100
+                    + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + marchMonth0 / 10;
+
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+
+        int pos = writeDate(buffer, offset, (int) year, month, day);
+        buffer[pos++] = 'T';
+        pos = writeTime(buffer, pos, secondOfDay / 3600,
+                (secondOfDay / 60) % 60, secondOfDay % 60, value.getNano());
+        buffer[pos++] = 'Z';
+        return pos;
+    }
+
+    /**
+     * Formats <code>value</code> in UTC, equivalent to
+     * <code>value.format(ISO_OFFSET_DATE_TIME.withZone(UTC))</code>.
+     */
+    public static String formatUTC(ZonedDateTime value) {
+        char[] buffer = buffer();
+        int end = formatUTC(value, buffer, 0);
+        return (end >= 0) ? new String(buffer, 0, end)
+                : UTC_FORMATTER.format(value);
+    }
+
+    /**
+     * Writes <code>value</code> as <code>yyyy-MM-dd</code> to
+     * <code>buffer</code>.
+     *
+     * @return the end offset, or <code>-1</code> if the value is outside the
+     *         fast path.
+     */
+    public static int formatDate(LocalDate value, char[] buffer, int offset) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        return writeDate(buffer, offset, year, value.getMonthValue(),
+                value.getDayOfMonth());
+    }
+
+    /**
+     * Formats <code>value</code>, equivalent to
+     * <code>value.format(ISO_LOCAL_DATE)</code>.
+     */
+    public static String formatDate(LocalDate value) {
+        char[] buffer = buffer();
+        int end = formatDate(value, buffer, 0);
+        return (end >= 0) ? new String(buffer, 0, end)
+                : DateTimeFormatter.ISO_LOCAL_DATE.format(value);
+    }
+
+    /**
+     * Formats <code>value</code>, equivalent to
+     * <code>value.format(ISO_LOCAL_DATE_TIME)</code>.
+     */
+    public static String formatLocal(LocalDateTime value) {
+        char[] buffer = buffer();
+        int pos = formatDate(value.toLocalDate(), buffer, 0);
+        if (pos < 0) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+        }
+        buffer[pos++] = 'T';
+        pos = writeTime(buffer, pos, value.getHour(), value.getMinute(),
+                value.getSecond(), value.getNano());
+        return new String(buffer, 0, pos);
+    }
+
+    /**
+     * Parses an ISO local date, equivalent to
+     * <code>LocalDate.parse(text)</code>.
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        LocalDate value = (text.length() == DATE_LENGTH) ? readDate(text)
+                : null;
+        return (value != null) ? value : LocalDate.parse(text);
+    }
+
+    /**
+     * Parses an ISO local date-time, equivalent to
+     * <code>LocalDateTime.parse(text)</code>.
+     *
+     * <p>
+     * Values with seconds are parsed directly, anything else goes through
+     * <code>LocalDateTime.parse</code>.
+     * </p>
+     */
+    public static LocalDateTime parseLocal(CharSequence text) {
+        LocalDateTime value = readDateTime(text, text.length());
+        return (value != null) ? value : LocalDateTime.parse(text);
+    }
+
+    /**
+     * Parses an ISO offset date-time, equivalent to
+     * <code>ZonedDateTime.parse(text)</code>.
+     *
+     * <p>
+     * <code>Z</code> and <code>+00:00</code> are parsed directly, anything else
+     * goes through <code>ZonedDateTime.parse</code>.
+     * </p>
+     */
+    public static ZonedDateTime parseZoned(CharSequence text) {
+        ZonedDateTime value = parseUTC(text);
+        return (value != null) ? value : ZonedDateTime.parse(text);
+    }
+
+    private static ZonedDateTime parseUTC(CharSequence text) {
+        int length = text.length();
+        int end;
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            end = length - 1;
+        } else if (length > 6 && text.charAt(length - 6) == '+'
+                && text.charAt(length - 5) == '0'
+                && text.charAt(length - 4) == '0'
+                && text.charAt(length - 3) == ':'
+                && text.charAt(length - 2) == '0'
+                && text.charAt(length - 1) == '0') {
+            end = length - 6;
+        } else {
+            return null;
+        }
+
+        LocalDateTime value = readDateTime(text, end);
+        return (value != null) ? ZonedDateTime.of(value, ZoneOffset.UTC) : null;
+    }
+
+    /** <code>yyyy-MM-dd</code> at the start of <code>text</code>. */
+    private static LocalDate readDate(CharSequence text) {
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 2);
+        int day = readDigits(text, 8, 2);
+        if ((year | month | day) < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            // let java.time report it.
+            return null;
+        }
+    }
+
+    /**
+     * <code>yyyy-MM-ddTHH:mm:ss[.n]</code> filling <code>text</code> up to
+     * <code>end</code>.
+     */
+    private static LocalDateTime readDateTime(CharSequence text, int end) {
+        if (end < 19 || text.charAt(10) != 'T' || text.charAt(13) != ':'
+                || text.charAt(16) != ':') {
+            return null;
+        }
+        LocalDate date = readDate(text);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+        int second = readDigits(text, 17, 2);
+        if (date == null || (hour | minute | second) < 0) {
+            return null;
+        }
+
+        int nano = 0;
+        if (end > 19) {
+            int digits = end - 20;
+            if (text.charAt(19) != '.' || digits == 0 || digits > 9) {
+                return null;
+            }
+            nano = readDigits(text, 20, digits);
+            if (nano < 0) {
+                return null;
+            }
+            for (int i = digits; i < 9; i++) {
+                nano *= 10;
+            }
+        }
+
+        try {
+            return LocalDateTime.of(date,
+                    LocalTime.of(hour, minute, second, nano));
+        } catch (DateTimeException e) {
+            // let java.time report it.
+            return null;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int readDigits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int writeDigits2(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static int writeDigits4(char[] buffer, int pos, int value) {
+        writeDigits2(buffer, pos, value / 100);
+        return writeDigits2(buffer, pos + 2, value % 100);
+    }
+
+    private static int writeDate(char[] buffer, int pos, int year, int month,
+            int day) {
+        pos = writeDigits4(buffer, pos, year);
+        buffer[pos++] = '-';
+        pos = writeDigits2(buffer, pos, month);
+        buffer[pos++] = '-';
+        return writeDigits2(buffer, pos, day);
+    }
+
+    private static int writeTime(char[] buffer, int pos, int hour,
+            int minute, int second, int nano) {
+        pos = writeDigits2(buffer, pos, hour);
+        buffer[pos++] = ':';
+        pos = writeDigits2(buffer, pos, minute);
+        buffer[pos++] = ':';
+        pos = writeDigits2(buffer, pos, second);
+        return writeFraction(buffer, pos, nano);
+    }
+
+    private static int writeFraction(char[] buffer, int pos, int nano) {
+        if (nano == 0) {
+            return pos;
+        }
+        // as many digits as needed, without trailing zeros.
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        buffer[pos++] = '.';
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return pos + digits;
+    }
+}
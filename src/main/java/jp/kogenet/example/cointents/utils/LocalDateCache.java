@@ -0,0 +1,68 @@
+package jp.kogenet.example.cointents.utils;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded memo of parsed and formatted <code>LocalDate</code>s.
+ *
+ * <p>
+ * Dates such as birthdays and start dates recur across a feed, so each text
+ * is parsed, and each date formatted, once. Like {@link StringInterner}, the
+ * tables stop growing at <code>maxSize</code> entries, after which new
+ * values go through {@link IsoDateTimeFormat} every time. Thread-safe.
+ * </p>
+ */
+public class LocalDateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final int maxSize;
+    private final ConcurrentMap<String, LocalDate> dates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocalDate, String> texts = new ConcurrentHashMap<>();
+
+    public LocalDateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the number of parsed, and separately of formatted,
+     *                dates kept.
+     */
+    public LocalDateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /** Equivalent to {@link IsoDateTimeFormat#parseDate(CharSequence)}. */
+    public LocalDate parse(String text) {
+        LocalDate value = dates.get(text);
+        if (value == null) {
+            value = IsoDateTimeFormat.parseDate(text);
+            if (dates.size() < maxSize) {
+                dates.putIfAbsent(text, value);
+            }
+        }
+        return value;
+    }
+
+    /** Equivalent to {@link IsoDateTimeFormat#formatDate(LocalDate)}. */
+    public String format(LocalDate value) {
+        String text = texts.get(value);
+        if (text == null) {
+            text = IsoDateTimeFormat.formatDate(value);
+            if (texts.size() < maxSize) {
+                texts.putIfAbsent(value, text);
+            }
+        }
+        return text;
+    }
+
+    /** The number of parsed dates kept. */
+    public int size() {
+        return dates.size();
+    }
+}
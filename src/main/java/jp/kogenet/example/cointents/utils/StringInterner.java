@@ -0,0 +1,104 @@
+package jp.kogenet.example.cointents.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded canonicalization table for repeated strings and string lists.
+ *
+ * <p>
+ * Unlike <code>String.intern()</code>, the table belongs to its owner and
+ * stops growing at <code>maxSize</code> entries, after which values that are
+ * not in it yet are returned as they are. Lists come back as immutable
+ * <code>List.copyOf</code> instances, so equal lists can safely be shared.
+ * Thread-safe.
+ * </p>
+ */
+public class StringInterner {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final int maxSize;
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<String>, List<String>> lists = new ConcurrentHashMap<>();
+
+    public StringInterner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the number of strings, and separately of lists, kept.
+     */
+    public StringInterner(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = strings.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (strings.size() >= maxSize) {
+            return value;
+        }
+        canonical = strings.putIfAbsent(value, value);
+        return (canonical != null) ? canonical : value;
+    }
+
+    /**
+     * Returns a shared immutable list equal to <code>values</code>, with its
+     * elements interned. A list holding <code>null</code> is returned as it
+     * is, as immutable lists cannot hold one.
+     */
+    public List<String> intern(List<String> values) {
+        if (values == null || values.contains(null)) {
+            return values;
+        }
+        List<String> canonical = lists.get(values);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        var interned = new ArrayList<String>(values.size());
+        for (String value : values) {
+            interned.add(intern(value));
+        }
+        if (lists.size() >= maxSize) {
+            return List.copyOf(interned);
+        }
+        List<String> copy = List.copyOf(interned);
+        canonical = lists.putIfAbsent(copy, copy);
+        return (canonical != null) ? canonical : copy;
+    }
+
+    /**
+     * Interns the elements of <code>values</code> in place. Arrays are
+     * mutable, so the array itself is not shared.
+     */
+    public String[] internElements(String[] values) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = intern(values[i]);
+            }
+        }
+        return values;
+    }
+
+    /** The number of interned strings. */
+    public int size() {
+        return strings.size();
+    }
+
+    /** The number of interned lists. */
+    public int listSize() {
+        return lists.size();
+    }
+}
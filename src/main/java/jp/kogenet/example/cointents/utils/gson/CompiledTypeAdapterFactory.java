@@ -0,0 +1,297 @@
+package jp.kogenet.example.cointents.utils.gson;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.FieldNamingStrategy;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adapters for plain model classes that access fields through
+ * <code>MethodHandle</code>s.
+ *
+ * <p>
+ * Fields, names, and field adapters are worked out once per class, when the
+ * adapter is created. <code>static</code>, <code>transient</code> and
+ * {@link Exclude} fields are left out, and <code>@SerializedName</code> wins
+ * over the naming strategy. Unlike Gson's reflective adapters, a field
+ * value is always written with the adapter of the declared field type, so
+ * subclass fields of a value are not written, and type variables of generic
+ * classes are not resolved.
+ * </p>
+ * <p>
+ * Objects are created with the no-argument constructor, or else with a
+ * constructor taking every instance field in declaration order, as Lombok's
+ * <code>@Builder</code> generates.
+ * </p>
+ */
+public class CompiledTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final MethodType GETTER_TYPE = MethodType
+            .methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType
+            .methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType
+            .methodType(Object.class);
+
+    private final FieldNamingStrategy namingStrategy;
+    private final Set<Class<?>> types;
+
+    /**
+     * @param types the classes to create adapters for; subclasses are not
+     *              included.
+     */
+    public CompiledTypeAdapterFactory(FieldNamingStrategy namingStrategy,
+            Class<?>... types) {
+        this.namingStrategy = namingStrategy;
+        this.types = Set.of(types);
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!types.contains(type.getRawType())) {
+            return null;
+        }
+        try {
+            return new Adapter<>(gson, type.getRawType());
+        } catch (IllegalAccessException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    private static class BoundField {
+        final String name;
+        final String[] alternates;
+        final TypeAdapter<Object> adapter;
+        final MethodHandle getter;
+        final MethodHandle setter;
+        final int index;
+        final boolean primitive;
+
+        BoundField(String name, String[] alternates,
+                TypeAdapter<Object> adapter, MethodHandle getter,
+                MethodHandle setter, int index, boolean primitive) {
+            this.name = name;
+            this.alternates = alternates;
+            this.adapter = adapter;
+            this.getter = getter;
+            this.setter = setter;
+            this.index = index;
+            this.primitive = primitive;
+        }
+    }
+
+    private class Adapter<T> extends TypeAdapter<T> {
+        private final BoundField[] fields;
+        private final Map<String, BoundField> byName = new HashMap<>();
+
+        /** <code>()Object</code>, or <code>null</code> if unused. */
+        private final MethodHandle constructor;
+        /** <code>(Object[])Object</code>, or <code>null</code> if unused. */
+        private final MethodHandle canonicalConstructor;
+        private final Object[] defaults;
+
+        @SuppressWarnings("unchecked")
+        Adapter(Gson gson, Class<?> raw) throws IllegalAccessException {
+            var lookup = MethodHandles.lookup();
+
+            var instanceFields = new ArrayList<Field>();
+            for (Field field : raw.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    instanceFields.add(field);
+                }
+            }
+
+            this.constructor = noArgConstructor(lookup, raw);
+            if (constructor == null) {
+                this.canonicalConstructor = canonicalConstructor(lookup, raw,
+                        instanceFields);
+                this.defaults = new Object[instanceFields.size()];
+                for (int i = 0; i < defaults.length; i++) {
+                    defaults[i] = defaultValue(instanceFields.get(i).getType());
+                }
+            } else {
+                this.canonicalConstructor = null;
+                this.defaults = null;
+            }
+
+            var bound = new ArrayList<BoundField>();
+            for (int i = 0; i < instanceFields.size(); i++) {
+                var field = instanceFields.get(i);
+                if (Modifier.isTransient(field.getModifiers())
+                        || field.getAnnotation(Exclude.class) != null) {
+                    continue;
+                }
+                field.setAccessible(true);
+
+                String name = namingStrategy.translateName(field);
+                String[] alternates = {};
+                var serializedName = field.getAnnotation(SerializedName.class);
+                if (serializedName != null) {
+                    name = serializedName.value();
+                    alternates = serializedName.alternate();
+                }
+
+                var adapter = (TypeAdapter<Object>) gson
+                        .getAdapter(TypeToken.get(field.getGenericType()));
+                var getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                var setter = (constructor == null) ? null
+                        : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                bound.add(new BoundField(name, alternates, adapter, getter,
+                        setter, i, field.getType().isPrimitive()));
+            }
+            this.fields = bound.toArray(new BoundField[0]);
+
+            for (BoundField field : fields) {
+                byName.put(field.name, field);
+                for (String alternate : field.alternates) {
+                    byName.put(alternate, field);
+                }
+            }
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            for (BoundField field : fields) {
+                out.name(field.name);
+                field.adapter.write(out, get(field, value));
+            }
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Object instance = (constructor != null) ? newInstance() : null;
+            Object[] args = (constructor != null) ? null : defaults.clone();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                var field = byName.get(in.nextName());
+                if (field == null) {
+                    in.skipValue();
+                    continue;
+                }
+                Object fieldValue = field.adapter.read(in);
+                if (fieldValue == null && field.primitive) {
+                    continue;
+                }
+                if (instance != null) {
+                    set(field, instance, fieldValue);
+                } else {
+                    args[field.index] = fieldValue;
+                }
+            }
+            in.endObject();
+
+            @SuppressWarnings("unchecked")
+            T result = (T) ((instance != null) ? instance : newInstance(args));
+            return result;
+        }
+
+        private Object get(BoundField field, Object value) {
+            try {
+                return (Object) field.getter.invokeExact(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonIOException(e);
+            }
+        }
+
+        private void set(BoundField field, Object instance, Object value) {
+            try {
+                field.setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonIOException(e);
+            }
+        }
+
+        private Object newInstance() {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonIOException(e);
+            }
+        }
+
+        private Object newInstance(Object[] args) {
+            try {
+                return (Object) canonicalConstructor.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonIOException(e);
+            }
+        }
+    }
+
+    private static MethodHandle noArgConstructor(MethodHandles.Lookup lookup,
+            Class<?> raw) throws IllegalAccessException {
+        try {
+            var constructor = raw.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return lookup.unreflectConstructor(constructor)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle canonicalConstructor(
+            MethodHandles.Lookup lookup, Class<?> raw, List<Field> fields)
+            throws IllegalAccessException {
+        var types = fields.stream().map(Field::getType).toArray(Class[]::new);
+        for (Constructor<?> constructor : raw.getDeclaredConstructors()) {
+            if (Arrays.equals(constructor.getParameterTypes(), types)) {
+                constructor.setAccessible(true);
+                return lookup.unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, types.length)
+                        .asType(MethodType.methodType(Object.class,
+                                Object[].class));
+            }
+        }
+        throw new JsonIOException(raw.getName()
+                + " has neither a no-argument nor an all-fields constructor");
+    }
+
+    /** <code>null</code>, or zero for a primitive type. */
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0)
+                : null;
+    }
+}
@@ -0,0 +1,72 @@
+package jp.kogenet.example.cointents.utils.gson;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import jp.kogenet.example.cointents.utils.StringInterner;
+
+/**
+ * Deserializes <code>List&lt;String&gt;</code> and <code>String[]</code>
+ * through a {@link StringInterner}.
+ *
+ * <p>
+ * Lists come back as shared immutable instances, and array elements are
+ * interned. Other strings, such as names, are left alone so that unique
+ * values do not fill the table. Serialization is unchanged.
+ * </p>
+ */
+public class InterningTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final TypeToken<List<String>> STRING_LIST = new TypeToken<>() {
+    };
+
+    private final StringInterner interner;
+
+    public InterningTypeAdapterFactory(StringInterner interner) {
+        this.interner = interner;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.equals(STRING_LIST)) {
+            var delegate = gson.getDelegateAdapter(this, STRING_LIST);
+            return (TypeAdapter<T>) new TypeAdapter<List<String>>() {
+                @Override
+                public void write(JsonWriter out, List<String> value)
+                        throws IOException {
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public List<String> read(JsonReader in) throws IOException {
+                    return interner.intern(delegate.read(in));
+                }
+            };
+        }
+        if (type.getRawType() == String[].class) {
+            var delegate = gson.getDelegateAdapter(this,
+                    TypeToken.get(String[].class));
+            return (TypeAdapter<T>) new TypeAdapter<String[]>() {
+                @Override
+                public void write(JsonWriter out, String[] value)
+                        throws IOException {
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public String[] read(JsonReader in) throws IOException {
+                    return interner.internElements(delegate.read(in));
+                }
+            };
+        }
+        return null;
+    }
+}
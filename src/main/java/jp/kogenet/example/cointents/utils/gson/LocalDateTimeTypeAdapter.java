@@ -2,26 +2,30 @@ package jp.kogenet.example.cointents.utils.gson;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+
 /**
  * Adapter for <code>java.time.LocalDateTime</code>.
  *
+ * <p>
+ * Values are <code>ISO_LOCAL_DATE_TIME</code>.
+ * </p>
  */
 public class LocalDateTimeTypeAdapter extends TypeAdapter<LocalDateTime> {
 
     @Override
     public void write(JsonWriter out, LocalDateTime value) throws IOException {
-        out.value(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        out.value(IsoDateTimeFormat.formatLocal(value));
     }
 
     @Override
     public LocalDateTime read(JsonReader in) throws IOException {
-        return LocalDateTime.parse(in.nextString());
+        return IsoDateTimeFormat.parseLocal(in.nextString());
     }
 
 }
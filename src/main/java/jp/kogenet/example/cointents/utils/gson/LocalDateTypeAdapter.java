@@ -2,26 +2,48 @@ package jp.kogenet.example.cointents.utils.gson;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+import jp.kogenet.example.cointents.utils.LocalDateCache;
+
 /**
  * Adapter for <code>java.time.LocalDate</code>.
  *
+ * <p>
+ * Values are <code>ISO_LOCAL_DATE</code>, optionally memoized in a
+ * {@link LocalDateCache}.
+ * </p>
  */
 public class LocalDateTypeAdapter extends TypeAdapter<LocalDate> {
 
+    private final LocalDateCache cache;
+
+    public LocalDateTypeAdapter() {
+        this(null);
+    }
+
+    /**
+     * @param cache shared memo of recurring dates, or <code>null</code>.
+     */
+    public LocalDateTypeAdapter(LocalDateCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public void write(JsonWriter out, LocalDate value) throws IOException {
-        out.value(value.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        out.value((cache != null) ? cache.format(value)
+                : IsoDateTimeFormat.formatDate(value));
     }
 
     @Override
     public LocalDate read(JsonReader in) throws IOException {
-        return LocalDate.parse(in.nextString());
+        String text = in.nextString();
+        return (cache != null) ? cache.parse(text)
+                : IsoDateTimeFormat.parseDate(text);
     }
 
 }
@@ -0,0 +1,53 @@
+package jp.kogenet.example.cointents.utils.gson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import jp.kogenet.example.cointents.models.SalaryTable;
+
+/**
+ * Deserializes <code>Map&lt;String, BigDecimal&gt;</code> into a
+ * {@link SalaryTable} where it fits.
+ *
+ * <p>
+ * The object is read as usual and then compacted, so maps that
+ * <code>SalaryTable</code> cannot hold come back unchanged. Serialization
+ * goes through the regular map adapter and keeps the
+ * <code>{"2018": 14000}</code> shape.
+ * </p>
+ */
+public class SalaryTableTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final TypeToken<Map<String, BigDecimal>> SALARY = new TypeToken<>() {
+    };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!type.equals(SALARY)) {
+            return null;
+        }
+        var delegate = gson.getDelegateAdapter(this, SALARY);
+        return (TypeAdapter<T>) new TypeAdapter<Map<String, BigDecimal>>() {
+            @Override
+            public void write(JsonWriter out, Map<String, BigDecimal> value)
+                    throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public Map<String, BigDecimal> read(JsonReader in)
+                    throws IOException {
+                return SalaryTable.compact(delegate.read(in));
+            }
+        };
+    }
+}
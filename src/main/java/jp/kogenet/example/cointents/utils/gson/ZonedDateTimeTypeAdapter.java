@@ -1,28 +1,32 @@
 package jp.kogenet.example.cointents.utils.gson;
 
 import java.io.IOException;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+
 /**
  * Adapter for <code>java.time.ZonedDateTime</code>.
  *
+ * <p>
+ * Values are written in UTC (<code>ISO_OFFSET_DATE_TIME</code>).
+ * </p>
  */
 public class ZonedDateTimeTypeAdapter extends TypeAdapter<ZonedDateTime> {
 
     @Override
     public void write(JsonWriter out, ZonedDateTime value) throws IOException {
-        out.value(value.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.of("UTC"))));
+        // JsonWriter only accepts a String.
+        out.value(IsoDateTimeFormat.formatUTC(value));
     }
 
     @Override
     public ZonedDateTime read(JsonReader in) throws IOException {
-        return ZonedDateTime.parse(in.nextString());
+        return IsoDateTimeFormat.parseZoned(in.nextString());
     }
 
 }
@@ -0,0 +1,53 @@
+package jp.kogenet.example.cointents.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Wire formats of the content models, all mapped by {@link ContentMappers}.
+ *
+ */
+public enum ContentFormat {
+
+    JSON("application/json") {
+        @Override
+        JsonFactory newFactory() {
+            return new JsonFactory();
+        }
+    },
+
+    /**
+     * Binary JSON. Repeated names and short string values, such as positions
+     * and skills, are written once and referred back to.
+     */
+    SMILE("application/x-jackson-smile") {
+        @Override
+        JsonFactory newFactory() {
+            return SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build();
+        }
+    },
+
+    /** RFC 7049 Concise Binary Object Representation. */
+    CBOR("application/cbor") {
+        @Override
+        JsonFactory newFactory() {
+            return new CBORFactory();
+        }
+    };
+
+    private final String mediaType;
+
+    ContentFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    abstract JsonFactory newFactory();
+}
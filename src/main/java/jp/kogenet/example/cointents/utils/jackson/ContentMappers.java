@@ -0,0 +1,147 @@
+package jp.kogenet.example.cointents.utils.jackson;
+
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+
+/**
+ * One shared <code>ObjectMapper</code> per {@link ContentFormat} for the
+ * content models.
+ *
+ * <p>
+ * The mappers are configured like the one in <code>JacsonTests</code>, plus
+ * Afterburner, which replaces reflective property access with generated
+ * bytecode. Serializers and deserializers of <code>Team</code> and
+ * <code>Staff</code> are resolved when this class is initialized, so the
+ * snake_case renaming and bean introspection happen once per JVM. Prefer the
+ * cached {@link #reader(Class)} and {@link #writer(Class)} instances; the
+ * mappers themselves must not be reconfigured.
+ * </p>
+ * <p>
+ * Every format maps the same properties with the same serializers, so a
+ * value read back from any of them equals the one read from JSON.
+ * </p>
+ */
+public final class ContentMappers {
+
+    /** Types whose readers and writers are resolved up front. */
+    static final List<Class<?>> MODEL_TYPES = List.of(Team.class,
+            Staff.class);
+
+    private static final Map<ContentFormat, Mappers> MAPPERS = new EnumMap<>(
+            ContentFormat.class);
+
+    static {
+        for (ContentFormat format : ContentFormat.values()) {
+            var mappers = new Mappers(newMapper(format));
+            for (Class<?> type : MODEL_TYPES) {
+                mappers.reader(type);
+                mappers.writer(type);
+            }
+            MAPPERS.put(format, mappers);
+        }
+    }
+
+    private static class Mappers {
+        final ObjectMapper mapper;
+        final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        Mappers(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        ObjectReader reader(Class<?> type) {
+            return readers.computeIfAbsent(type, mapper::readerFor);
+        }
+
+        ObjectWriter writer(Class<?> type) {
+            return writers.computeIfAbsent(type, mapper::writerFor);
+        }
+    }
+
+    private ContentMappers() {
+    }
+
+    /**
+     * Creates a new, unshared JSON mapper with the content model
+     * configuration.
+     */
+    public static ObjectMapper newMapper() {
+        return newMapper(ContentFormat.JSON);
+    }
+
+    /**
+     * Creates a new, unshared mapper of <code>format</code> with the content
+     * model configuration.
+     */
+    public static ObjectMapper newMapper(ContentFormat format) {
+        var mapper = new ObjectMapper(format.newFactory())
+                .registerModule(new JavaTimeModule())
+                // the value class loader needs illegal reflective access.
+                .registerModule(new AfterburnerModule()
+                        .setUseValueClassLoader(false))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+
+        var module = new SimpleModule();
+        module.addSerializer(ZonedDateTime.class,
+                new UTCZonedDateTimeSerializer());
+        module.addDeserializer(ZonedDateTime.class,
+                new UTCZonedDateTimeDeserializer());
+        mapper.registerModule(module);
+
+        return mapper;
+    }
+
+    /**
+     * Returns the shared JSON mapper, for APIs that need an
+     * <code>ObjectMapper</code>.
+     */
+    public static ObjectMapper mapper() {
+        return mapper(ContentFormat.JSON);
+    }
+
+    public static ObjectMapper mapper(ContentFormat format) {
+        return MAPPERS.get(format).mapper;
+    }
+
+    /**
+     * Returns the cached JSON reader of <code>type</code>, with its root
+     * deserializer already resolved.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return reader(ContentFormat.JSON, type);
+    }
+
+    public static ObjectReader reader(ContentFormat format, Class<?> type) {
+        return MAPPERS.get(format).reader(type);
+    }
+
+    /**
+     * Returns the cached JSON writer of <code>type</code>, with its root
+     * serializer already resolved.
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return writer(ContentFormat.JSON, type);
+    }
+
+    public static ObjectWriter writer(ContentFormat format, Class<?> type) {
+        return MAPPERS.get(format).writer(type);
+    }
+}
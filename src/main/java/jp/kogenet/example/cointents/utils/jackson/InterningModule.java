@@ -0,0 +1,130 @@
+package jp.kogenet.example.cointents.utils.jackson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import jp.kogenet.example.cointents.utils.StringInterner;
+
+/**
+ * Deserializes <code>List&lt;String&gt;</code> and <code>String[]</code>
+ * through a {@link StringInterner}.
+ *
+ * <p>
+ * Properties declared as <code>List</code> (or a supertype) of
+ * <code>String</code> get shared immutable lists, and <code>String[]</code>
+ * elements are interned. Other strings and concrete collection types are
+ * left alone. Serialization is unchanged.
+ * </p>
+ */
+public class InterningModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient StringInterner interner;
+
+    public InterningModule(StringInterner interner) {
+        super(InterningModule.class.getSimpleName());
+        this.interner = interner;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findCollectionDeserializer(
+                    CollectionType type, DeserializationConfig config,
+                    BeanDescription beanDesc,
+                    TypeDeserializer elementTypeDeserializer,
+                    JsonDeserializer<?> elementDeserializer) {
+                if (type.getRawClass().isAssignableFrom(List.class)
+                        && type.getContentType().hasRawClass(String.class)) {
+                    return new StringListDeserializer(interner);
+                }
+                return null;
+            }
+
+            @Override
+            public JsonDeserializer<?> findArrayDeserializer(ArrayType type,
+                    DeserializationConfig config, BeanDescription beanDesc,
+                    TypeDeserializer elementTypeDeserializer,
+                    JsonDeserializer<?> elementDeserializer) {
+                if (type.getContentType().hasRawClass(String.class)) {
+                    return new StringArrayDeserializer(interner);
+                }
+                return null;
+            }
+        });
+    }
+
+    private abstract static class InterningDeserializer<T>
+            extends StdDeserializer<T> {
+        private static final long serialVersionUID = 1L;
+
+        final transient StringInterner interner;
+
+        InterningDeserializer(Class<?> type, StringInterner interner) {
+            super(type);
+            this.interner = interner;
+        }
+
+        List<String> readArray(JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            var values = new ArrayList<String>();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                values.add((token == JsonToken.VALUE_NULL) ? null
+                        : _parseString(p, ctxt));
+            }
+            return values;
+        }
+    }
+
+    private static class StringListDeserializer
+            extends InterningDeserializer<List<String>> {
+        private static final long serialVersionUID = 1L;
+
+        StringListDeserializer(StringInterner interner) {
+            super(List.class, interner);
+        }
+
+        @Override
+        public List<String> deserialize(JsonParser p,
+                DeserializationContext ctxt) throws IOException {
+            return interner.intern(readArray(p, ctxt));
+        }
+    }
+
+    private static class StringArrayDeserializer
+            extends InterningDeserializer<String[]> {
+        private static final long serialVersionUID = 1L;
+
+        StringArrayDeserializer(StringInterner interner) {
+            super(String[].class, interner);
+        }
+
+        @Override
+        public String[] deserialize(JsonParser p,
+                DeserializationContext ctxt) throws IOException {
+            return interner.internElements(
+                    readArray(p, ctxt).toArray(new String[0]));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package jp.kogenet.example.cointents.utils.jackson;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import jp.kogenet.example.cointents.models.SalaryTable;
+
+/**
+ * Deserializes <code>Map&lt;String, BigDecimal&gt;</code> into a
+ * {@link SalaryTable} where it fits.
+ *
+ * <p>
+ * Only properties declared as <code>Map</code> are affected. The object is
+ * read by the regular <code>LinkedHashMap</code> deserializer and then
+ * compacted, so maps that <code>SalaryTable</code> cannot hold come back
+ * unchanged. Serialization is unchanged.
+ * </p>
+ */
+public class SalaryTableModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public SalaryTableModule() {
+        super(SalaryTableModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findMapDeserializer(MapType type,
+                    DeserializationConfig config, BeanDescription beanDesc,
+                    KeyDeserializer keyDeserializer,
+                    TypeDeserializer elementTypeDeserializer,
+                    JsonDeserializer<?> elementDeserializer) {
+                if (type.hasRawClass(Map.class)
+                        && type.getKeyType().hasRawClass(String.class)
+                        && type.getContentType()
+                                .hasRawClass(BigDecimal.class)) {
+                    return new SalaryTableDeserializer(null);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static class SalaryTableDeserializer
+            extends StdDeserializer<Map<String, BigDecimal>>
+            implements ContextualDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private final JsonDeserializer<Object> delegate;
+
+        SalaryTableDeserializer(JsonDeserializer<Object> delegate) {
+            super(Map.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(
+                DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            var type = ctxt.getTypeFactory().constructMapType(
+                    LinkedHashMap.class, String.class, BigDecimal.class);
+            return new SalaryTableDeserializer(
+                    ctxt.findContextualValueDeserializer(type, property));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, BigDecimal> deserialize(JsonParser p,
+                DeserializationContext ctxt) throws IOException {
+            return SalaryTable.compact(
+                    (Map<String, BigDecimal>) delegate.deserialize(p, ctxt));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package jp.kogenet.example.cointents.utils.jackson;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.time.ZonedDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+
+/**
+ * Counterpart of {@link UTCZonedDateTimeSerializer}.
+ *
+ * <p>
+ * UTC strings are parsed straight from the parser buffer, everything else is
+ * left to <code>JavaTimeModule</code>. As with <code>JavaTimeModule</code>,
+ * the value is adjusted to the context time zone unless
+ * <code>ADJUST_DATES_TO_CONTEXT_TIME_ZONE</code> is disabled.
+ * </p>
+ */
+public class UTCZonedDateTimeDeserializer
+        extends StdDeserializer<ZonedDateTime> {
+
+    private static final long serialVersionUID = 1L;
+
+    public UTCZonedDateTimeDeserializer() {
+        super(ZonedDateTime.class);
+    }
+
+    @Override
+    public ZonedDateTime deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return InstantDeserializer.ZONED_DATE_TIME.deserialize(p, ctxt);
+        }
+
+        CharSequence text = p.hasTextCharacters()
+                ? CharBuffer.wrap(p.getTextCharacters(), p.getTextOffset(),
+                        p.getTextLength())
+                : p.getText();
+        ZonedDateTime value;
+        try {
+            value = IsoDateTimeFormat.parseZoned(text);
+        } catch (RuntimeException e) {
+            return InstantDeserializer.ZONED_DATE_TIME.deserialize(p, ctxt);
+        }
+
+        if (ctxt.isEnabled(
+                DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)) {
+            return value.withZoneSameInstant(ctxt.getTimeZone().toZoneId());
+        }
+        return value;
+    }
+}
@@ -1,14 +1,14 @@
 package jp.kogenet.example.cointents.utils.jackson;
 
 import java.io.IOException;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+
 public class UTCZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
 
     private static final long serialVersionUID = 1L;
@@ -24,7 +24,12 @@ public class UTCZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
     @Override
     public void serialize(ZonedDateTime value, JsonGenerator gen,
             SerializerProvider provider) throws IOException {
-        gen.writeString(value.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME
-                .withZone(ZoneId.of("UTC"))));
+        char[] buffer = IsoDateTimeFormat.buffer();
+        int end = IsoDateTimeFormat.formatUTC(value, buffer, 0);
+        if (end >= 0) {
+            gen.writeString(buffer, 0, end);
+        } else {
+            gen.writeString(IsoDateTimeFormat.formatUTC(value));
+        }
     }
 }
@@ -0,0 +1,26 @@
+package jp.kogenet.example.persistence;
+
+import java.util.concurrent.TimeUnit;
+
+import jp.kogenet.example.persistence.utils.LatencyHistogram;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of {@link WorkItemBulkLoader#load}.
+ *
+ */
+@Builder
+@Data
+public class BulkLoadResult {
+    private final WorkItemBulkLoader.Method method;
+    private final long rows;
+    private final long batches;
+    private final long elapsedNanos;
+    private final LatencyHistogram.Snapshot batchLatency;
+
+    public double getRowsPerSecond() {
+        return (elapsedNanos == 0) ? 0.0
+                : rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
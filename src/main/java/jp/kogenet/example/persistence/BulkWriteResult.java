@@ -0,0 +1,32 @@
+package jp.kogenet.example.persistence;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one {@link UserBulkWriter} run.
+ *
+ */
+@Builder
+@Data
+public class BulkWriteResult {
+
+    private final long rows;
+
+    /** JDBC statements executed one by one, including sequence calls. */
+    private final long statements;
+
+    /** JDBC batches executed. */
+    private final long batches;
+
+    private final long flushes;
+
+    private final long elapsedNanos;
+
+    /**
+     * Round trips per row, counting each batch as one.
+     */
+    public double getStatementsPerRow() {
+        return (rows > 0) ? (double) (statements + batches) / rows : 0.0;
+    }
+}
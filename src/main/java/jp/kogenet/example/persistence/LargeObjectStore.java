@@ -0,0 +1,246 @@
+package jp.kogenet.example.persistence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Streams <code>work_items.blob_data</code> and <code>clob_data</code>
+ * between the database and channels.
+ *
+ * <p>
+ * Transfers go through one reusable direct buffer and update a SHA-512
+ * digest as the bytes pass, so no transfer holds the whole value in a
+ * <code>byte[]</code> of its own. Note that the PostgreSQL driver still
+ * reads a whole <code>bytea</code> or <code>text</code> value when the row
+ * is fetched. The buffer makes an instance not thread-safe, and the
+ * transaction is left to the caller.
+ * </p>
+ */
+public class LargeObjectStore {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String DIGEST_ALGORITHM = "SHA-512";
+
+    private final ByteBuffer buffer;
+    private final MessageDigest digest;
+
+    public LargeObjectStore() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public LargeObjectStore(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize <= 0");
+        }
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        try {
+            this.digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public LargeObjectTransfer writeBlob(Connection connection, int id,
+            Path source) throws SQLException, IOException {
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            return writeBlob(connection, id, channel, channel.size());
+        }
+    }
+
+    /**
+     * Updates <code>blob_data</code> of row <code>id</code> with exactly
+     * <code>length</code> bytes from <code>source</code>.
+     *
+     * @return <code>null</code> if no row has that id.
+     */
+    public LargeObjectTransfer writeBlob(Connection connection, int id,
+            ReadableByteChannel source, long length)
+            throws SQLException, IOException {
+        var start = System.nanoTime();
+        digest.reset();
+        var stream = new DigestInputStream(Channels.newInputStream(source),
+                digest);
+
+        try (var statement = connection.prepareStatement(
+                "update work_items set blob_data = ? where id = ?")) {
+            statement.setBinaryStream(1, stream, length);
+            statement.setInt(2, id);
+            if (statement.executeUpdate() == 0) {
+                return null;
+            }
+        }
+        return result(length, start);
+    }
+
+    /**
+     * Writes <code>blob_data</code> of row <code>id</code> into
+     * <code>target</code>.
+     *
+     * @return <code>null</code> if no row has that id or the value is NULL.
+     */
+    public LargeObjectTransfer readBlob(Connection connection, int id,
+            WritableByteChannel target) throws SQLException, IOException {
+        var start = System.nanoTime();
+        digest.reset();
+
+        try (var statement = select(connection, "blob_data", id);
+                var result = statement.executeQuery()) {
+            if (!result.next()) {
+                return null;
+            }
+            try (InputStream stream = result.getBinaryStream(1)) {
+                if (stream == null) {
+                    return null;
+                }
+                return result(copy(Channels.newChannel(stream), target),
+                        start);
+            }
+        }
+    }
+
+    /**
+     * Updates <code>clob_data</code> of row <code>id</code> with the text of
+     * <code>source</code>. The digest covers the file bytes as stored on
+     * disk.
+     *
+     * @return <code>null</code> if no row has that id.
+     */
+    public LargeObjectTransfer writeClob(Connection connection, int id,
+            Path source, Charset charset) throws SQLException, IOException {
+        var start = System.nanoTime();
+        digest.reset();
+
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ);
+                var stream = new DigestInputStream(
+                        Channels.newInputStream(channel), digest);
+                Reader reader = new InputStreamReader(stream, charset);
+                var statement = connection.prepareStatement(
+                        "update work_items set clob_data = ? where id = ?")) {
+            // the reader has to stay open until the statement is executed
+            statement.setCharacterStream(1, reader);
+            statement.setInt(2, id);
+            if (statement.executeUpdate() == 0) {
+                return null;
+            }
+            return result(channel.size(), start);
+        }
+    }
+
+    /**
+     * Writes <code>clob_data</code> of row <code>id</code> into
+     * <code>target</code> encoded with <code>charset</code>.
+     *
+     * @return <code>null</code> if no row has that id or the value is NULL.
+     */
+    public LargeObjectTransfer readClob(Connection connection, int id,
+            WritableByteChannel target, Charset charset)
+            throws SQLException, IOException {
+        var start = System.nanoTime();
+        digest.reset();
+
+        try (var statement = select(connection, "clob_data", id);
+                var result = statement.executeQuery()) {
+            if (!result.next()) {
+                return null;
+            }
+            try (Reader reader = result.getCharacterStream(1)) {
+                if (reader == null) {
+                    return null;
+                }
+                return result(encode(reader, charset.newEncoder(), target),
+                        start);
+            }
+        }
+    }
+
+    private static PreparedStatement select(Connection connection,
+            String column, int id) throws SQLException {
+        var statement = connection.prepareStatement(
+                "select " + column + " from work_items where id = ?");
+        statement.setInt(1, id);
+        return statement;
+    }
+
+    private long copy(ReadableByteChannel source, WritableByteChannel target)
+            throws IOException {
+        long total = 0;
+        buffer.clear();
+        while (source.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                total += drain(target);
+            }
+        }
+        return total + drain(target);
+    }
+
+    private long encode(Reader reader, CharsetEncoder encoder,
+            WritableByteChannel target) throws IOException {
+        var chars = CharBuffer.allocate(buffer.capacity());
+        long total = 0;
+        buffer.clear();
+
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = reader.read(chars) < 0;
+            chars.flip();
+            CoderResult coderResult;
+            while ((coderResult = encoder.encode(chars, buffer, endOfInput))
+                    .isOverflow()) {
+                total += drain(target);
+            }
+            if (coderResult.isError()) {
+                coderResult.throwException();
+            }
+            chars.compact();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            total += drain(target);
+        }
+        return total + drain(target);
+    }
+
+    /**
+     * Digests and writes whatever is in the buffer, leaving it cleared.
+     */
+    private long drain(WritableByteChannel target) throws IOException {
+        buffer.flip();
+        int size = buffer.remaining();
+
+        digest.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        buffer.clear();
+        return size;
+    }
+
+    private LargeObjectTransfer result(long bytes, long start) {
+        // @formatter:off
+        return LargeObjectTransfer.builder()
+                .bytes(bytes)
+                .digest(digest.digest())
+                .elapsedNanos(System.nanoTime() - start)
+                .build();
+        // @formatter:on
+    }
+}
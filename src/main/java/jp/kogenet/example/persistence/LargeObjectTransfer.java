@@ -0,0 +1,27 @@
+package jp.kogenet.example.persistence;
+
+import java.util.Base64;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one {@link LargeObjectStore} upload or download.
+ *
+ */
+@Builder
+@Data
+public class LargeObjectTransfer {
+
+    /** Bytes sent or received, after character encoding for CLOBs. */
+    private final long bytes;
+
+    /** SHA-512 of those bytes. */
+    private final byte[] digest;
+
+    private final long elapsedNanos;
+
+    public String getDigestBase64() {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
@@ -0,0 +1,464 @@
+package jp.kogenet.example.persistence;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.naming.Binding;
+import javax.naming.CompoundName;
+import javax.naming.Context;
+import javax.naming.ContextNotEmptyException;
+import javax.naming.InvalidNameException;
+import javax.naming.Name;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
+import javax.naming.NameParser;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.NotContextException;
+
+/**
+ * In-memory naming service for running without an application server.
+ *
+ * <p>
+ * Bindings live in a <code>ConcurrentHashMap</code> per context, so lookups
+ * take no locks. Names are <code>/</code> separated, left to right, and
+ * <code>bind</code> and <code>rebind</code> create missing intermediate
+ * subcontexts, so <code>java:comp/env/jdbc/datasource</code> can be bound
+ * straight away. The components of looked up <code>String</code> names are
+ * cached. A {@link Context} bound in the tree is followed for the rest of a
+ * name.
+ * </p>
+ */
+public class StandaloneContext implements Context {
+
+    /** Upper bound of the name cache shared by all contexts. */
+    static final int NAME_CACHE_SIZE = 1024;
+
+    private static final Properties SYNTAX = new Properties();
+    static {
+        SYNTAX.put("jndi.syntax.direction", "left_to_right");
+        SYNTAX.put("jndi.syntax.separator", "/");
+    }
+
+    private static final NameParser PARSER = name -> new CompoundName(name,
+            SYNTAX);
+
+    // components rather than Names: CompoundName reads through a Vector.
+    private static final ConcurrentMap<String, String[]> ATOMS = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Object> bindings;
+    private final String nameInNamespace;
+    private final Hashtable<Object, Object> environment;
+
+    public StandaloneContext() {
+        this(null);
+    }
+
+    public StandaloneContext(Hashtable<?, ?> environment) {
+        this(new ConcurrentHashMap<>(), "", environment);
+    }
+
+    private StandaloneContext(ConcurrentMap<String, Object> bindings,
+            String nameInNamespace, Hashtable<?, ?> environment) {
+        this.bindings = bindings;
+        this.nameInNamespace = nameInNamespace;
+        this.environment = (environment == null) ? new Hashtable<>()
+                : new Hashtable<>(environment);
+    }
+
+    /**
+     * Returns a view of the same bindings with its own environment.
+     */
+    StandaloneContext withEnvironment(Hashtable<?, ?> environment) {
+        return new StandaloneContext(bindings, nameInNamespace, environment);
+    }
+
+    private static Name parse(String name) throws NamingException {
+        return PARSER.parse(name);
+    }
+
+    private static String[] atoms(String name) throws NamingException {
+        String[] atoms = ATOMS.get(name);
+        if (atoms == null) {
+            atoms = atoms(parse(name));
+            if (ATOMS.size() < NAME_CACHE_SIZE) {
+                ATOMS.putIfAbsent(name, atoms);
+            }
+        }
+        return atoms;
+    }
+
+    private static String[] atoms(Name name) {
+        var atoms = new String[name.size()];
+        for (int i = 0; i < atoms.length; i++) {
+            atoms[i] = name.get(i);
+        }
+        return atoms;
+    }
+
+    private static Name toName(String[] atoms, int from, int to)
+            throws NamingException {
+        var name = parse("");
+        for (int i = from; i < to; i++) {
+            name.add(atoms[i]);
+        }
+        return name;
+    }
+
+    private static <E extends NamingException> E error(E e, String[] atoms,
+            int resolved) throws NamingException {
+        e.setResolvedName(toName(atoms, 0, resolved));
+        e.setRemainingName(toName(atoms, resolved, atoms.length));
+        return e;
+    }
+
+    private static <E extends NamingException> E error(E e, Name name,
+            int resolved) {
+        e.setResolvedName(name.getPrefix(resolved));
+        e.setRemainingName(name.getSuffix(resolved));
+        return e;
+    }
+
+    private static void checkNotEmpty(Name name) throws NamingException {
+        if (name.isEmpty()) {
+            throw new InvalidNameException("empty name");
+        }
+    }
+
+    private StandaloneContext newChild(String atom) {
+        var childName = nameInNamespace.isEmpty() ? atom
+                : nameInNamespace + "/" + atom;
+        return new StandaloneContext(new ConcurrentHashMap<>(), childName,
+                environment);
+    }
+
+    /**
+     * Returns the context bound to the first component of
+     * <code>name</code>, creating it if <code>create</code> is set.
+     */
+    private Context child(Name name, boolean create) throws NamingException {
+        var atom = name.get(0);
+        Object next = create ? bindings.computeIfAbsent(atom, this::newChild)
+                : bindings.get(atom);
+        if (next instanceof Context) {
+            return (Context) next;
+        }
+        throw error((next == null) ? new NameNotFoundException(atom)
+                : new NotContextException(atom), name, 1);
+    }
+
+    @Override
+    public Object lookup(Name name) throws NamingException {
+        return lookup(atoms(name));
+    }
+
+    @Override
+    public Object lookup(String name) throws NamingException {
+        return lookup(atoms(name));
+    }
+
+    private Object lookup(String[] atoms) throws NamingException {
+        if (atoms.length == 0) {
+            return withEnvironment(environment);
+        }
+
+        var current = bindings;
+        int last = atoms.length - 1;
+        for (int i = 0; i < last; i++) {
+            Object next = current.get(atoms[i]);
+            if (next instanceof StandaloneContext) {
+                current = ((StandaloneContext) next).bindings;
+            } else if (next instanceof Context) {
+                return ((Context) next)
+                        .lookup(toName(atoms, i + 1, atoms.length));
+            } else {
+                throw error((next == null) ? new NameNotFoundException()
+                        : new NotContextException(), atoms, i + 1);
+            }
+        }
+
+        Object value = current.get(atoms[last]);
+        if (value == null) {
+            throw error(new NameNotFoundException(), atoms, atoms.length);
+        }
+        return value;
+    }
+
+    /**
+     * Binds <code>obj</code>, creating intermediate subcontexts as needed.
+     * <code>null</code> cannot be bound.
+     */
+    @Override
+    public void bind(Name name, Object obj) throws NamingException {
+        checkNotEmpty(name);
+        Objects.requireNonNull(obj, "obj");
+        if (name.size() > 1) {
+            child(name, true).bind(name.getSuffix(1), obj);
+        } else if (bindings.putIfAbsent(name.get(0), obj) != null) {
+            throw new NameAlreadyBoundException(name.toString());
+        }
+    }
+
+    @Override
+    public void bind(String name, Object obj) throws NamingException {
+        bind(parse(name), obj);
+    }
+
+    /**
+     * Binds <code>obj</code> in place of any existing binding, creating
+     * intermediate subcontexts as needed.
+     */
+    @Override
+    public void rebind(Name name, Object obj) throws NamingException {
+        checkNotEmpty(name);
+        Objects.requireNonNull(obj, "obj");
+        if (name.size() > 1) {
+            child(name, true).rebind(name.getSuffix(1), obj);
+        } else {
+            bindings.put(name.get(0), obj);
+        }
+    }
+
+    @Override
+    public void rebind(String name, Object obj) throws NamingException {
+        rebind(parse(name), obj);
+    }
+
+    /**
+     * Removes the binding, if any. Subcontexts are removed whether empty or
+     * not.
+     */
+    @Override
+    public void unbind(Name name) throws NamingException {
+        checkNotEmpty(name);
+        if (name.size() > 1) {
+            child(name, false).unbind(name.getSuffix(1));
+        } else {
+            bindings.remove(name.get(0));
+        }
+    }
+
+    @Override
+    public void unbind(String name) throws NamingException {
+        unbind(parse(name));
+    }
+
+    /**
+     * Binds the object of <code>oldName</code> to <code>newName</code>, then
+     * unbinds <code>oldName</code>. The two steps are not atomic.
+     */
+    @Override
+    public void rename(Name oldName, Name newName) throws NamingException {
+        checkNotEmpty(oldName);
+        bind(newName, lookup(oldName));
+        unbind(oldName);
+    }
+
+    @Override
+    public void rename(String oldName, String newName) throws NamingException {
+        rename(parse(oldName), parse(newName));
+    }
+
+    private Object listTarget(Name name) throws NamingException {
+        Object target = name.isEmpty() ? this : lookup(name);
+        if (!(target instanceof Context)) {
+            throw new NotContextException(name.toString());
+        }
+        return target;
+    }
+
+    @Override
+    public NamingEnumeration<NameClassPair> list(Name name)
+            throws NamingException {
+        Object target = listTarget(name);
+        if (!(target instanceof StandaloneContext)) {
+            return ((Context) target).list("");
+        }
+
+        var pairs = new ArrayList<NameClassPair>();
+        ((StandaloneContext) target).bindings.forEach((atom, obj) -> pairs
+                .add(new NameClassPair(atom, obj.getClass().getName())));
+        return new ListEnumeration<>(pairs);
+    }
+
+    @Override
+    public NamingEnumeration<NameClassPair> list(String name)
+            throws NamingException {
+        return list(parse(name));
+    }
+
+    @Override
+    public NamingEnumeration<Binding> listBindings(Name name)
+            throws NamingException {
+        Object target = listTarget(name);
+        if (!(target instanceof StandaloneContext)) {
+            return ((Context) target).listBindings("");
+        }
+
+        var pairs = new ArrayList<Binding>();
+        ((StandaloneContext) target).bindings
+                .forEach((atom, obj) -> pairs.add(new Binding(atom, obj)));
+        return new ListEnumeration<>(pairs);
+    }
+
+    @Override
+    public NamingEnumeration<Binding> listBindings(String name)
+            throws NamingException {
+        return listBindings(parse(name));
+    }
+
+    @Override
+    public void destroySubcontext(Name name) throws NamingException {
+        checkNotEmpty(name);
+        if (name.size() > 1) {
+            child(name, false).destroySubcontext(name.getSuffix(1));
+            return;
+        }
+
+        var atom = name.get(0);
+        Object value = bindings.get(atom);
+        if (value == null) {
+            return;
+        }
+        if (!(value instanceof StandaloneContext)) {
+            throw new NotContextException(atom);
+        }
+        if (!((StandaloneContext) value).bindings.isEmpty()) {
+            throw new ContextNotEmptyException(atom);
+        }
+        bindings.remove(atom, value);
+    }
+
+    @Override
+    public void destroySubcontext(String name) throws NamingException {
+        destroySubcontext(parse(name));
+    }
+
+    /**
+     * Creates a subcontext. Intermediate contexts must already exist.
+     */
+    @Override
+    public Context createSubcontext(Name name) throws NamingException {
+        checkNotEmpty(name);
+        if (name.size() > 1) {
+            return child(name, false).createSubcontext(name.getSuffix(1));
+        }
+
+        var atom = name.get(0);
+        var context = newChild(atom);
+        if (bindings.putIfAbsent(atom, context) != null) {
+            throw new NameAlreadyBoundException(atom);
+        }
+        return context;
+    }
+
+    @Override
+    public Context createSubcontext(String name) throws NamingException {
+        return createSubcontext(parse(name));
+    }
+
+    /** There are no links, so this is {@link #lookup(Name)}. */
+    @Override
+    public Object lookupLink(Name name) throws NamingException {
+        return lookup(name);
+    }
+
+    @Override
+    public Object lookupLink(String name) throws NamingException {
+        return lookup(name);
+    }
+
+    @Override
+    public NameParser getNameParser(Name name) throws NamingException {
+        return PARSER;
+    }
+
+    @Override
+    public NameParser getNameParser(String name) throws NamingException {
+        return PARSER;
+    }
+
+    @Override
+    public Name composeName(Name name, Name prefix) throws NamingException {
+        return ((Name) prefix.clone()).addAll(name);
+    }
+
+    @Override
+    public String composeName(String name, String prefix)
+            throws NamingException {
+        return composeName(parse(name), parse(prefix)).toString();
+    }
+
+    @Override
+    public Object addToEnvironment(String propName, Object propVal)
+            throws NamingException {
+        return environment.put(propName, propVal);
+    }
+
+    @Override
+    public Object removeFromEnvironment(String propName)
+            throws NamingException {
+        return environment.remove(propName);
+    }
+
+    @Override
+    public Hashtable<?, ?> getEnvironment() throws NamingException {
+        return new Hashtable<>(environment);
+    }
+
+    /** Bindings outlive the context, so there is nothing to release. */
+    @Override
+    public void close() throws NamingException {
+    }
+
+    @Override
+    public String getNameInNamespace() throws NamingException {
+        return nameInNamespace;
+    }
+
+    /**
+     * Enumerates a snapshot taken when the enumeration was created.
+     */
+    private static class ListEnumeration<T> implements NamingEnumeration<T> {
+        private final Iterator<T> iterator;
+
+        ListEnumeration(List<T> list) {
+            this.iterator = list.iterator();
+        }
+
+        @Override
+        public boolean hasMore() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T nextElement() {
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -6,13 +6,18 @@ import javax.naming.Context;
 import javax.naming.NamingException;
 import javax.naming.spi.InitialContextFactory;
 
+/**
+ * Hands out views of one {@link StandaloneContext} namespace per class
+ * loader, each with the environment it was asked for.
+ *
+ */
 public class StandaloneContextFactory implements InitialContextFactory {
-    private static final Context CONTEXT = new StandaloneContext();
+    private static final StandaloneContext CONTEXT = new StandaloneContext();
 
     @Override
     public Context getInitialContext(Hashtable<?, ?> environment)
             throws NamingException {
-        return CONTEXT;
+        return CONTEXT.withEnvironment(environment);
     }
 
-}
\ No newline at end of file
+}
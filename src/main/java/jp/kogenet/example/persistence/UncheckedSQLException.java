@@ -0,0 +1,21 @@
+package jp.kogenet.example.persistence;
+
+import java.sql.SQLException;
+
+/**
+ * Wraps an <code>SQLException</code> thrown where only unchecked exceptions
+ * can escape, such as inside a <code>Stream</code>.
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
@@ -0,0 +1,123 @@
+package jp.kogenet.example.persistence;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import jp.kogenet.example.persistence.entities.User;
+
+/**
+ * Saves or updates large numbers of <code>User</code> in one transaction.
+ *
+ * <p>
+ * The session is flushed and cleared every <code>batchSize</code> rows, so
+ * the persistence context stays small and each flush turns into JDBC
+ * batches (<code>hibernate.jdbc.batch_size</code>,
+ * <code>order_inserts</code> and <code>order_updates</code>). Batching
+ * inserts needs an id generator that does not depend on the insert, which
+ * is why <code>User</code> is mapped to the pooled <code>users_seq</code>
+ * sequence. The second-level cache is bypassed.
+ * </p>
+ */
+public class UserBulkWriter {
+
+    /** Same as <code>hibernate.jdbc.batch_size</code>. */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final SessionFactory sessionFactory;
+    private final int batchSize;
+
+    public UserBulkWriter(SessionFactory sessionFactory) {
+        this(sessionFactory, DEFAULT_BATCH_SIZE);
+    }
+
+    public UserBulkWriter(SessionFactory sessionFactory, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize <= 0");
+        }
+        this.sessionFactory = sessionFactory;
+        this.batchSize = batchSize;
+    }
+
+    public BulkWriteResult write(Stream<User> users) {
+        return write(users.iterator());
+    }
+
+    /**
+     * Inserts users without an id and updates the others, committing once
+     * at the end. Nothing is written if any row fails.
+     */
+    public BulkWriteResult write(Iterator<User> users) {
+        var counter = new JdbcCounter();
+        var start = System.nanoTime();
+        long rows = 0;
+        long flushes = 0;
+
+        try (Session session = sessionFactory.openSession()) {
+            session.addEventListeners(counter);
+            session.setJdbcBatchSize(batchSize);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            session.setCacheMode(CacheMode.IGNORE);
+
+            var transaction = session.beginTransaction();
+            try {
+                while (users.hasNext()) {
+                    session.saveOrUpdate(users.next());
+                    if (++rows % batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                        flushes++;
+                    }
+                }
+                if (rows % batchSize != 0) {
+                    session.flush();
+                    session.clear();
+                    flushes++;
+                }
+                transaction.commit();
+
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+
+        // @formatter:off
+        return BulkWriteResult.builder()
+                .rows(rows)
+                .statements(counter.statements)
+                .batches(counter.batches)
+                .flushes(flushes)
+                .elapsedNanos(System.nanoTime() - start)
+                .build();
+        // @formatter:on
+    }
+
+    /**
+     * Counts JDBC executions of one session.
+     */
+    private static class JdbcCounter extends BaseSessionEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        long statements;
+        long batches;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batches++;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package jp.kogenet.example.persistence;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+
+import jp.kogenet.example.persistence.entities.User;
+
+/**
+ * Exports <code>users</code> as JSON lines.
+ *
+ * <p>
+ * Rows are read through a <code>StatelessSession</code> and a forward-only
+ * <code>ScrollableResults</code>, so there is no persistence context, no
+ * dirty checking, and only <code>fetchSize</code> rows are held at a time.
+ * Passwords and the lazy collections are not exported.
+ * </p>
+ */
+public class UserExporter {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** Fields of <code>User</code> left out of the export. */
+    static final Set<String> EXCLUDED_FIELDS = Set.of("password", "items",
+            "statuses");
+
+    @JsonIgnoreProperties({ "password", "items", "statuses" })
+    abstract static class ExportMixin {
+    }
+
+    /** Closing flushes the lines but leaves the target open. */
+    private interface LineWriter extends Closeable {
+        void write(User user) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface LineWriterFactory {
+        LineWriter open(Writer writer) throws IOException;
+    }
+
+    private final SessionFactory sessionFactory;
+    private final LineWriterFactory writerFactory;
+
+    /**
+     * Exports with a copy of <code>mapper</code>, so its naming strategy and
+     * modules apply.
+     */
+    public UserExporter(SessionFactory sessionFactory, ObjectMapper mapper) {
+        this.sessionFactory = sessionFactory;
+
+        var exportMapper = mapper.copy()
+                .addMixIn(User.class, ExportMixin.class)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        var objectWriter = exportMapper.writerFor(User.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writerFactory = writer -> {
+            JsonGenerator generator = exportMapper.getFactory()
+                    .createGenerator(writer);
+            // lines are separated by '\n' instead of the default space
+            generator.setRootValueSeparator(null);
+            return new LineWriter() {
+                @Override
+                public void write(User user) throws IOException {
+                    objectWriter.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // returns its buffers to Jackson's recycler
+                    generator.close();
+                }
+            };
+        };
+    }
+
+    /**
+     * Exports with <code>gson</code> plus an exclusion for the fields that are
+     * not exported.
+     */
+    public UserExporter(SessionFactory sessionFactory, Gson gson) {
+        this.sessionFactory = sessionFactory;
+
+        var exportGson = gson.newBuilder()
+                .addSerializationExclusionStrategy(new ExclusionStrategy() {
+                    @Override
+                    public boolean shouldSkipField(FieldAttributes f) {
+                        return f.getDeclaringClass() == User.class
+                                && EXCLUDED_FIELDS.contains(f.getName());
+                    }
+
+                    @Override
+                    public boolean shouldSkipClass(Class<?> clazz) {
+                        return false;
+                    }
+                }).create();
+        var adapter = exportGson.getAdapter(User.class);
+        this.writerFactory = writer -> new LineWriter() {
+            @Override
+            public void write(User user) throws IOException {
+                adapter.write(exportGson.newJsonWriter(writer), user);
+                writer.write('\n');
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    public long export(OutputStream out) throws IOException {
+        return export(out, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Writes every user ordered by id, one JSON object per line, as UTF-8.
+     * <code>out</code> is flushed but not closed.
+     *
+     * @return the number of users written.
+     */
+    public long export(OutputStream out, int fetchSize) throws IOException {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize <= 0");
+        }
+
+        var writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (LineWriter lines = writerFactory.open(writer);
+                StatelessSession session = sessionFactory
+                        .openStatelessSession()) {
+            // the PostgreSQL driver only streams rows inside a transaction
+            var transaction = session.beginTransaction();
+            try (var results = session
+                    .createQuery("from User u order by u.id", User.class)
+                    .setFetchSize(fetchSize).setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    lines.write((User) results.get(0));
+                    count++;
+                }
+            } finally {
+                transaction.rollback();
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+}
@@ -0,0 +1,250 @@
+package jp.kogenet.example.persistence;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import jp.kogenet.example.persistence.entities.WorkItem;
+import jp.kogenet.example.persistence.utils.LatencyHistogram;
+
+/**
+ * Loads large numbers of <code>WorkItem</code> rows into
+ * <code>work_items</code>.
+ *
+ * <p>
+ * Rows are grouped into batches of <code>batchSize</code>. On PostgreSQL the
+ * batches are streamed through one <code>COPY ... FROM STDIN</code>,
+ * otherwise each batch becomes one multi-row <code>INSERT</code> (what
+ * <code>reWriteBatchedInserts</code> does in the driver). The transaction is
+ * left to the caller.
+ * </p>
+ */
+public class WorkItemBulkLoader {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** PostgreSQL accepts at most 32767 bind parameters per statement. */
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    private static final String[] COLUMNS = { "code", "name", "price",
+            "quantity", "purchase_date", "last_updated_at" };
+
+    private static final String COPY_SQL = "COPY work_items ("
+            + String.join(", ", COLUMNS)
+            + ") FROM STDIN WITH (FORMAT text)";
+
+    public enum Method {
+        /** COPY when the connection is a PostgreSQL one, else INSERT. */
+        AUTO,
+        /** <code>COPY ... FROM STDIN</code> in text format. */
+        COPY,
+        /** Multi-row <code>INSERT ... VALUES (...), (...)</code>. */
+        MULTI_ROW_INSERT
+    }
+
+    private final int batchSize;
+    private final Method method;
+
+    public WorkItemBulkLoader() {
+        this(DEFAULT_BATCH_SIZE, Method.AUTO);
+    }
+
+    public WorkItemBulkLoader(int batchSize, Method method) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize <= 0");
+        }
+        this.batchSize = batchSize;
+        this.method = method;
+    }
+
+    public BulkLoadResult load(Connection connection, Stream<WorkItem> items)
+            throws SQLException {
+        Method resolved = method;
+        if (resolved == Method.AUTO) {
+            resolved = connection.isWrapperFor(PGConnection.class)
+                    ? Method.COPY
+                    : Method.MULTI_ROW_INSERT;
+        }
+
+        var histogram = new LatencyHistogram();
+        var start = System.nanoTime();
+        long[] counts = (resolved == Method.COPY)
+                ? copy(connection, items.iterator(), histogram)
+                : insert(connection, items.iterator(), histogram);
+
+        // @formatter:off
+        return BulkLoadResult.builder()
+                .method(resolved)
+                .rows(counts[0])
+                .batches(counts[1])
+                .elapsedNanos(System.nanoTime() - start)
+                .batchLatency(histogram.snapshot())
+                .build();
+        // @formatter:on
+    }
+
+    private long[] copy(Connection connection, Iterator<WorkItem> items,
+            LatencyHistogram histogram) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn(COPY_SQL);
+        try {
+            var text = new StringBuilder(batchSize * 64);
+            long rows = 0;
+            long batches = 0;
+            int size = 0;
+            while (items.hasNext()) {
+                appendCopyRow(text, items.next());
+                if (++size == batchSize || !items.hasNext()) {
+                    var batchStart = System.nanoTime();
+                    var bytes = text.toString()
+                            .getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    copyIn.flushCopy();
+                    histogram.record(System.nanoTime() - batchStart);
+
+                    rows += size;
+                    batches++;
+                    size = 0;
+                    text.setLength(0);
+                }
+            }
+            copyIn.endCopy();
+            return new long[] { rows, batches };
+
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private long[] insert(Connection connection, Iterator<WorkItem> items,
+            LatencyHistogram histogram) throws SQLException {
+        int rowsPerStatement = Math.min(batchSize,
+                MAX_PARAMETERS / COLUMNS.length);
+
+        PreparedStatement full = null;
+        try {
+            List<WorkItem> batch = new ArrayList<>(rowsPerStatement);
+            long rows = 0;
+            long batches = 0;
+            while (items.hasNext()) {
+                batch.add(items.next());
+                if (batch.size() == rowsPerStatement || !items.hasNext()) {
+                    var batchStart = System.nanoTime();
+                    if (batch.size() == rowsPerStatement) {
+                        if (full == null) {
+                            full = connection.prepareStatement(
+                                    insertSql(rowsPerStatement));
+                        }
+                        bindAndExecute(full, batch);
+                    } else {
+                        try (var last = connection
+                                .prepareStatement(insertSql(batch.size()))) {
+                            bindAndExecute(last, batch);
+                        }
+                    }
+                    histogram.record(System.nanoTime() - batchStart);
+
+                    rows += batch.size();
+                    batches++;
+                    batch.clear();
+                }
+            }
+            return new long[] { rows, batches };
+
+        } finally {
+            if (full != null) {
+                full.close();
+            }
+        }
+    }
+
+    private static String insertSql(int rows) {
+        var row = "(?" + ", ?".repeat(COLUMNS.length - 1) + ")";
+        var sql = new StringBuilder("insert into work_items (")
+                .append(String.join(", ", COLUMNS)).append(") values ")
+                .append(row);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", ").append(row);
+        }
+        return sql.toString();
+    }
+
+    private static void bindAndExecute(PreparedStatement statement,
+            List<WorkItem> batch) throws SQLException {
+        int index = 1;
+        for (WorkItem item : batch) {
+            statement.setString(index++, item.getCode());
+            statement.setString(index++, item.getName());
+            statement.setBigDecimal(index++, item.getPrice());
+            if (item.getQuantity() != null) {
+                statement.setInt(index++, item.getQuantity());
+            } else {
+                statement.setNull(index++, Types.SMALLINT);
+            }
+            statement.setObject(index++, item.getPurchaseDate());
+            statement.setObject(index++, (item.getLastUpdatedAt() != null)
+                    ? item.getLastUpdatedAt().toOffsetDateTime()
+                    : null);
+        }
+        statement.executeUpdate();
+    }
+
+    private static void appendCopyRow(StringBuilder text, WorkItem item) {
+        appendCopyValue(text, item.getCode()).append('\t');
+        appendCopyValue(text, item.getName()).append('\t');
+        BigDecimal price = item.getPrice();
+        appendCopyValue(text, (price != null) ? price.toPlainString() : null)
+                .append('\t');
+        appendCopyValue(text, item.getQuantity()).append('\t');
+        appendCopyValue(text, item.getPurchaseDate()).append('\t');
+        appendCopyValue(text, (item.getLastUpdatedAt() != null)
+                ? item.getLastUpdatedAt().toOffsetDateTime()
+                : null).append('\n');
+    }
+
+    /**
+     * Appends a value in COPY text format (<code>\N</code> for NULL,
+     * backslash escapes for delimiters).
+     */
+    private static StringBuilder appendCopyValue(StringBuilder text,
+            Object value) {
+        if (value == null) {
+            return text.append("\\N");
+        }
+
+        var s = value.toString();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '\\':
+                text.append("\\\\");
+                break;
+            case '\t':
+                text.append("\\t");
+                break;
+            case '\n':
+                text.append("\\n");
+                break;
+            case '\r':
+                text.append("\\r");
+                break;
+            default:
+                text.append(c);
+                break;
+            }
+        }
+        return text;
+    }
+}
@@ -0,0 +1,163 @@
+package jp.kogenet.example.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import jp.kogenet.example.persistence.entities.WorkItem;
+
+/**
+ * Queries over <code>work_items</code>.
+ *
+ */
+public class WorkItemRepository {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private static final String SELECT_ALL = "select id, code, name, price,"
+            + " quantity, purchase_date, last_updated_at"
+            + " from work_items order by id";
+
+    private final DataSource dataSource;
+    private final ZoneId zoneId;
+
+    public WorkItemRepository(DataSource dataSource) {
+        this(dataSource, ZoneId.systemDefault());
+    }
+
+    public WorkItemRepository(DataSource dataSource, ZoneId zoneId) {
+        this.dataSource = dataSource;
+        this.zoneId = zoneId;
+    }
+
+    public Stream<WorkItem> streamAll() {
+        return streamAll(DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams every row through a forward-only cursor.
+     *
+     * <p>
+     * The PostgreSQL driver only uses a server-side cursor when autocommit is
+     * off and the fetch size is positive; otherwise it reads the whole result
+     * into memory. The connection stays open until the stream is closed, so
+     * use the stream in a try-with-resources block.
+     * </p>
+     *
+     * @param fetchSize rows fetched per round trip.
+     */
+    public Stream<WorkItem> streamAll(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize <= 0");
+        }
+
+        try {
+            var cursor = new Cursor(dataSource.getConnection());
+            try {
+                cursor.open(SELECT_ALL, fetchSize);
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    cursor.close();
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+
+        } catch (SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
+
+    private class Cursor extends Spliterators.AbstractSpliterator<WorkItem> {
+
+        private final Connection connection;
+        private final WorkItemRowMapper mapper = new WorkItemRowMapper(zoneId);
+
+        /** The setting to restore, once <code>open</code> has changed it. */
+        private Boolean autoCommit;
+        private PreparedStatement statement;
+        private ResultSet result;
+        private boolean closed;
+
+        Cursor(Connection connection) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+        }
+
+        void open(String sql, int fetchSize) throws SQLException {
+            boolean previous = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            autoCommit = previous;
+            statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            result = statement.executeQuery();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super WorkItem> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!result.next()) {
+                    return false;
+                }
+                action.accept(mapper.mapRow(result));
+                return true;
+            } catch (SQLException e) {
+                throw new UncheckedSQLException(e);
+            }
+        }
+
+        /**
+         * Releases the cursor and ends the read-only transaction before the
+         * connection goes back to its pool.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            SQLException failure = null;
+            try {
+                if (result != null) {
+                    result.close();
+                }
+                if (statement != null) {
+                    statement.close();
+                }
+                if (autoCommit != null) {
+                    connection.rollback();
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException e) {
+                failure = e;
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+            if (failure != null) {
+                throw new UncheckedSQLException(failure);
+            }
+        }
+    }
+}
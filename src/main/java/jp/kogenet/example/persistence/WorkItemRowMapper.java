@@ -0,0 +1,125 @@
+package jp.kogenet.example.persistence;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.kogenet.example.persistence.entities.WorkItem;
+
+/**
+ * Maps <code>work_items</code> rows to <code>WorkItem</code>.
+ *
+ * <p>
+ * Column indexes are looked up once from <code>ResultSetMetaData</code> when a
+ * new <code>ResultSet</code> is seen, then every row is read by index.
+ * Columns missing from the select list map to <code>null</code>. An instance
+ * remembers the last <code>ResultSet</code>, so it is not thread-safe.
+ * </p>
+ */
+public class WorkItemRowMapper {
+
+    private static final int ID = 0;
+    private static final int CODE = 1;
+    private static final int NAME = 2;
+    private static final int PRICE = 3;
+    private static final int QUANTITY = 4;
+    private static final int PURCHASE_DATE = 5;
+    private static final int LAST_UPDATED_AT = 6;
+
+    private static final String[] COLUMNS = { "id", "code", "name", "price",
+            "quantity", "purchase_date", "last_updated_at" };
+
+    private final ZoneId zoneId;
+
+    private ResultSet boundResultSet;
+    private final int[] indexes = new int[COLUMNS.length];
+
+    public WorkItemRowMapper() {
+        this(ZoneId.systemDefault());
+    }
+
+    public WorkItemRowMapper(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Maps the current row of <code>result</code>.
+     */
+    public WorkItem mapRow(ResultSet result) throws SQLException {
+        if (result != boundResultSet) {
+            bind(result.getMetaData());
+            boundResultSet = result;
+        }
+
+        Integer id = getInteger(result, indexes[ID]);
+        String code = getString(result, indexes[CODE]);
+        String name = getString(result, indexes[NAME]);
+        BigDecimal price = (indexes[PRICE] > 0)
+                ? result.getBigDecimal(indexes[PRICE])
+                : null;
+        Integer quantity = getInteger(result, indexes[QUANTITY]);
+        LocalDate purchaseDate = (indexes[PURCHASE_DATE] > 0)
+                ? result.getObject(indexes[PURCHASE_DATE], LocalDate.class)
+                : null;
+        OffsetDateTime lastUpdatedAt = (indexes[LAST_UPDATED_AT] > 0)
+                ? result.getObject(indexes[LAST_UPDATED_AT],
+                        OffsetDateTime.class)
+                : null;
+
+        return new WorkItem(id, code, name, price, quantity, purchaseDate,
+                toZonedDateTime(lastUpdatedAt));
+    }
+
+    /**
+     * Maps the remaining rows of <code>result</code>.
+     */
+    public List<WorkItem> mapAll(ResultSet result) throws SQLException {
+        List<WorkItem> items = new ArrayList<>();
+        while (result.next()) {
+            items.add(mapRow(result));
+        }
+        return items;
+    }
+
+    private void bind(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = 0;
+        }
+
+        int count = metaData.getColumnCount();
+        for (int column = 1; column <= count; column++) {
+            String label = metaData.getColumnLabel(column);
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (indexes[i] == 0 && COLUMNS[i].equalsIgnoreCase(label)) {
+                    indexes[i] = column;
+                    break;
+                }
+            }
+        }
+    }
+
+    private ZonedDateTime toZonedDateTime(OffsetDateTime value) {
+        return (value != null) ? value.atZoneSameInstant(zoneId) : null;
+    }
+
+    private static String getString(ResultSet result, int index)
+            throws SQLException {
+        return (index > 0) ? result.getString(index) : null;
+    }
+
+    private static Integer getInteger(ResultSet result, int index)
+            throws SQLException {
+        if (index == 0) {
+            return null;
+        }
+        int value = result.getInt(index);
+        return result.wasNull() ? null : value;
+    }
+}
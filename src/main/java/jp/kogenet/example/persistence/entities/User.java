@@ -1,11 +1,14 @@
 package jp.kogenet.example.persistence.entities;
 
-import lombok.AllArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Data
 public class User {
 
@@ -17,4 +20,19 @@ public class User {
 
     private String password;
 
-}
\ No newline at end of file
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<UserItem> items = new ArrayList<>();
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<UserStatus> statuses = new ArrayList<>();
+
+    public User(Integer id, String name, String email, String password) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.password = password;
+    }
+
+}
@@ -1,8 +1,27 @@
 package jp.kogenet.example.persistence.entities;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 public class UserItem {
-    
-}
\ No newline at end of file
+
+    private Integer id;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    private LocalDate purchaseDate;
+
+    private Integer itemCode;
+
+    private String itemName;
+
+    private ZonedDateTime lastUpdatedAt;
+
+}
@@ -1,8 +1,22 @@
 package jp.kogenet.example.persistence.entities;
 
+import java.time.ZonedDateTime;
+
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 public class UserStatus {
-    
-}
\ No newline at end of file
+
+    private Integer id;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    private String status;
+
+    private ZonedDateTime lastUpdatedAt;
+
+}
@@ -0,0 +1,24 @@
+package jp.kogenet.example.persistence.utils;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of one second-level cache region.
+ *
+ */
+@Builder
+@Data
+public class CacheRegionStats {
+    private final String regionName;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    /** <code>-1</code> if the cache provider does not publish evictions. */
+    private final long evictionCount;
+
+    public double getHitRatio() {
+        long total = hitCount + missCount;
+        return (total > 0) ? (double) hitCount / total : 0.0;
+    }
+}
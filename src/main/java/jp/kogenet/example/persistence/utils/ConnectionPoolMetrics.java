@@ -0,0 +1,61 @@
+package jp.kogenet.example.persistence.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Collects HikariCP metrics for {@link ConnectionPoolStats}.
+ *
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private final HikariDataSource dataSource;
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LongAdder connectionTimeouts = new LongAdder();
+
+    private ConnectionPoolMetrics(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public static ConnectionPoolMetrics attach(HikariDataSource dataSource) {
+        var metrics = new ConnectionPoolMetrics(dataSource);
+        dataSource.setMetricsTrackerFactory(metrics);
+        return metrics;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireLatency.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                connectionTimeouts.increment();
+            }
+        };
+    }
+
+    public ConnectionPoolStats snapshot() {
+        var pool = dataSource.getHikariPoolMXBean();
+        // @formatter:off
+        return ConnectionPoolStats.builder()
+                .poolName(dataSource.getPoolName())
+                .minimumIdle(dataSource.getMinimumIdle())
+                .maximumPoolSize(dataSource.getMaximumPoolSize())
+                .activeConnections(pool.getActiveConnections())
+                .idleConnections(pool.getIdleConnections())
+                .totalConnections(pool.getTotalConnections())
+                .threadsAwaitingConnection(pool.getThreadsAwaitingConnection())
+                .connectionTimeouts(connectionTimeouts.sum())
+                .acquireLatency(acquireLatency.snapshot())
+                .build();
+        // @formatter:on
+    }
+}
@@ -0,0 +1,22 @@
+package jp.kogenet.example.persistence.utils;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the connection pool state.
+ *
+ */
+@Builder
+@Data
+public class ConnectionPoolStats {
+    private final String poolName;
+    private final int minimumIdle;
+    private final int maximumPoolSize;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+    private final long connectionTimeouts;
+    private final LatencyHistogram.Snapshot acquireLatency;
+}
@@ -1,13 +1,103 @@
 package jp.kogenet.example.persistence.utils;
 
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.zaxxer.hikari.HikariDataSource;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
 
 public class HibernateUtil {
 
+    private static volatile SessionFactory sessionFactory;
+    private static volatile ConnectionPoolMetrics poolMetrics;
+
+    /**
+     * Returns the shared <code>SessionFactory</code>, building it on first use
+     * (or again after it has been closed).
+     *
+     * @return the factory, or <code>null</code> if it could not be built.
+     */
     public static SessionFactory getSessionFactory() {
+        SessionFactory factory = sessionFactory;
+        if (factory == null || factory.isClosed()) {
+            synchronized (HibernateUtil.class) {
+                factory = sessionFactory;
+                if (factory == null || factory.isClosed()) {
+                    factory = buildSessionFactory();
+                    poolMetrics = attachPoolMetrics(factory);
+                    sessionFactory = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the current state of the connection pool.
+     *
+     * @return the pool snapshot, or <code>null</code> if the factory is not
+     *         backed by HikariCP.
+     */
+    public static ConnectionPoolStats getConnectionPoolStats() {
+        var metrics = poolMetrics;
+        return (metrics != null) ? metrics.snapshot() : null;
+    }
+
+    /**
+     * Returns hit, miss and put counts of a second-level cache region from
+     * Hibernate <code>Statistics</code>, and evictions from the JCache
+     * statistics MBean of the same cache.
+     *
+     * @param regionName e.g. the entity name, or
+     *                   <code>default-query-results-region</code>.
+     * @return the region snapshot, or <code>null</code> if statistics are
+     *         disabled or there is no such region.
+     */
+    public static CacheRegionStats getCacheRegionStats(String regionName) {
+        var statistics = getSessionFactory().getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return null;
+        }
+
+        CacheRegionStatistics region;
+        try {
+            region = statistics.getDomainDataRegionStatistics(regionName);
+        } catch (IllegalArgumentException e) {
+            region = statistics.getQueryRegionStatistics(regionName);
+        }
+        if (region == null) {
+            return null;
+        }
+
+        // @formatter:off
+        return CacheRegionStats.builder()
+                .regionName(regionName)
+                .hitCount(region.getHitCount())
+                .missCount(region.getMissCount())
+                .putCount(region.getPutCount())
+                .evictionCount(getCacheEvictions(regionName))
+                .build();
+        // @formatter:on
+    }
+
+    public static synchronized void shutdown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        sessionFactory = null;
+        poolMetrics = null;
+    }
+
+    private static SessionFactory buildSessionFactory() {
         final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
                 .configure() // configures settings from hibernate.cfg.xml
                 .build();
@@ -28,4 +118,39 @@ public class HibernateUtil {
         return factory;
     }
 
-}
\ No newline at end of file
+    private static ConnectionPoolMetrics attachPoolMetrics(
+            SessionFactory factory) {
+        if (factory == null) {
+            return null;
+        }
+
+        var provider = factory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(ConnectionProvider.class);
+        if (provider == null
+                || !provider.isUnwrappableAs(HikariDataSource.class)) {
+            return null;
+        }
+
+        return ConnectionPoolMetrics
+                .attach(provider.unwrap(HikariDataSource.class));
+    }
+
+    private static long getCacheEvictions(String cacheName) {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var names = server.queryNames(new ObjectName(
+                    "javax.cache:type=CacheStatistics,Cache=" + cacheName
+                            + ",*"),
+                    null);
+            long evictions = -1;
+            for (ObjectName name : names) {
+                evictions = Math.max(evictions, 0) + (Long) server
+                        .getAttribute(name, "CacheEvictions");
+            }
+            return evictions;
+        } catch (JMException e) {
+            return -1;
+        }
+    }
+
+}
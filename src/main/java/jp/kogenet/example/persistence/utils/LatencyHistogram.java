@@ -0,0 +1,98 @@
+package jp.kogenet.example.persistence.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Lock-free latency histogram with fixed bucket bounds.
+ *
+ */
+public class LatencyHistogram {
+
+    /** Default upper bounds in microseconds (the last bucket is unbounded). */
+    private static final long[] DEFAULT_BOUNDS_MICROS = { 100, 250, 500, 1_000,
+            2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000,
+            1_000_000 };
+
+    private final long[] boundsNanos;
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    public LatencyHistogram() {
+        this(DEFAULT_BOUNDS_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    public LatencyHistogram(long[] bounds, TimeUnit unit) {
+        this.boundsNanos = Arrays.stream(bounds).map(unit::toNanos).sorted()
+                .toArray();
+        this.buckets = new LongAdder[boundsNanos.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int index = Arrays.binarySearch(boundsNanos, nanos);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        buckets[index].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        var counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new Snapshot(boundsNanos.clone(), counts, count,
+                totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Point-in-time view of the histogram.
+     *
+     * <p>
+     * <code>counts[i]</code> holds samples up to <code>boundsNanos[i]</code>,
+     * and the last element holds everything above the largest bound.
+     * </p>
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Data
+    public static class Snapshot {
+        private final long[] boundsNanos;
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        public double getMeanNanos() {
+            return (count == 0) ? 0.0 : (double) totalNanos / count;
+        }
+
+        public long getPercentileNanos(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < boundsNanos.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return boundsNanos[i];
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousServerSocketChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.cointents.io.AsyncTeamParser;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+public class AsyncTeamParserTests {
+
+    private final ObjectMapper mapper = ContentMappers.mapper();
+
+    private byte[] teamBytes(int size) throws IOException {
+        var out = new ByteArrayOutputStream();
+        new JacksonTeamWriter(mapper).write(
+                Team.create("Async", LocalDate.of(2020, 9, 1), () -> null),
+                ContentFixtures.members(size).stream(), out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testByteAtATime() throws IOException {
+        var bytes = Files.readAllBytes(ContentFixtures.DATA_PATH);
+        var members = new ArrayList<Staff>();
+
+        try (var parser = new AsyncTeamParser(mapper, members::add)) {
+            for (byte b : bytes) {
+                parser.feed(new byte[] { b }, 0, 1);
+            }
+            parser.endOfInput();
+
+            assertTrue(parser.isDone());
+            assertEquals("Avoid project.", parser.getHeader().getName());
+            assertEquals(LocalDate.of(2020, 9, 1),
+                    parser.getHeader().getStartAt());
+        }
+        assertEquals(1, members.size());
+        assertEquals("Bob", members.get(0).getName());
+        assertEquals(Map.of("2018", new BigDecimal(14000), "2012",
+                new BigDecimal(12000), "2010", new BigDecimal(10000)),
+                members.get(0).getSalary());
+    }
+
+    @Test
+    void testMembersAsTheyComplete() throws IOException {
+        var bytes = teamBytes(500);
+        var members = new ArrayList<Staff>();
+        var random = new Random(20200901L);
+
+        int halfway = -1;
+        try (var parser = new AsyncTeamParser(mapper, members::add)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int length = Math.min(1 + random.nextInt(300),
+                        bytes.length - offset);
+                // direct buffers are copied, heap ones read in place.
+                var chunk = (offset % 2 == 0)
+                        ? ByteBuffer.allocateDirect(length)
+                        : ByteBuffer.allocate(length);
+                chunk.put(bytes, offset, length).flip();
+                parser.feed(chunk);
+                assertFalse(chunk.hasRemaining());
+                offset += length;
+
+                if (halfway < 0 && offset >= bytes.length / 2) {
+                    halfway = members.size();
+                }
+            }
+            parser.endOfInput();
+        }
+        assertTrue(halfway > 100 && halfway < 400, "halfway " + halfway);
+        assertEquals(ContentFixtures.members(500), members);
+    }
+
+    @Test
+    void testReadableByteChannel() throws IOException {
+        var channel = Channels
+                .newChannel(new ByteArrayInputStream(teamBytes(50)));
+        var buffer = ByteBuffer.allocate(100);
+        var members = new ArrayList<Staff>();
+
+        try (var parser = new AsyncTeamParser(mapper, members::add)) {
+            while (parser.readFrom(channel, buffer) >= 0) {
+                // a selector loop would wait for OP_READ here.
+            }
+            assertTrue(parser.isDone());
+        }
+        assertEquals(ContentFixtures.members(50), members);
+    }
+
+    @Test
+    void testLoopbackSocket() throws Exception {
+        var bytes = teamBytes(2000);
+        var members = new CopyOnWriteArrayList<Staff>();
+
+        try (var server = AsynchronousServerSocketChannel.open().bind(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                var client = AsynchronousSocketChannel.open()) {
+            var accepted = server.accept();
+            client.connect(server.getLocalAddress()).get(10, TimeUnit.SECONDS);
+
+            try (var connection = accepted.get(10, TimeUnit.SECONDS)) {
+                var header = AsyncTeamParser.read(connection, mapper,
+                        members::add);
+
+                // fragments of awkward sizes, including mid-token splits.
+                for (int offset = 0; offset < bytes.length; offset += 777) {
+                    var chunk = ByteBuffer.wrap(bytes, offset,
+                            Math.min(777, bytes.length - offset));
+                    while (chunk.hasRemaining()) {
+                        client.write(chunk).get(10, TimeUnit.SECONDS);
+                    }
+                }
+                client.shutdownOutput();
+
+                Team team = header.get(30, TimeUnit.SECONDS);
+                assertEquals("Async", team.getName());
+                assertEquals(LocalDate.of(2020, 9, 1), team.getStartAt());
+                assertNull(team.getMembers());
+            }
+        }
+        assertEquals(ContentFixtures.members(2000), members);
+    }
+
+    @Test
+    void testInvalidInput() throws Exception {
+        var truncated = teamBytes(3);
+        try (var parser = new AsyncTeamParser(mapper, staff -> {
+        })) {
+            parser.feed(truncated, 0, truncated.length - 2);
+            assertThrows(IOException.class, parser::endOfInput);
+        }
+
+        var trailing = "{\"members\":[]} {}".getBytes(StandardCharsets.UTF_8);
+        try (var parser = new AsyncTeamParser(mapper, staff -> {
+        })) {
+            assertThrows(IOException.class,
+                    () -> parser.feed(trailing, 0, trailing.length));
+        }
+
+        var malformed = "{\"members\":[{\"name\":}]}"
+                .getBytes(StandardCharsets.UTF_8);
+        try (var server = AsynchronousServerSocketChannel.open().bind(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                var client = AsynchronousSocketChannel.open()) {
+            var accepted = server.accept();
+            client.connect(server.getLocalAddress()).get(10, TimeUnit.SECONDS);
+            try (var connection = accepted.get(10, TimeUnit.SECONDS)) {
+                var header = AsyncTeamParser.read(connection, mapper,
+                        staff -> {
+                        });
+                client.write(ByteBuffer.wrap(malformed)).get(10,
+                        TimeUnit.SECONDS);
+
+                var e = assertThrows(ExecutionException.class,
+                        () -> header.get(30, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.annotations.SerializedName;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.gson.CompiledTypeAdapterFactory;
+
+public class CompiledTypeAdapterFactoryTests {
+
+    Gson reflective;
+    Gson compiled;
+
+    @BeforeEach
+    void setUp() {
+        reflective = ContentFixtures.gsonBuilder().setVersion(1.0).create();
+        compiled = ContentFixtures.gsonBuilder().setVersion(1.0)
+                .registerTypeAdapterFactory(new CompiledTypeAdapterFactory(
+                        FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES,
+                        Team.class, Staff.class))
+                .create();
+    }
+
+    @Test
+    void testJavaToJson() throws JSONException, IOException {
+        var team = Team.create("Avoid project.", LocalDate.of(2020, 9, 1),
+                () -> List.of(ContentFixtures.staff("Bob", 35)));
+
+        final String actual = compiled.toJson(team);
+
+        System.out.println(actual);
+        JSONAssert.assertEquals(ContentFixtures.jsonText(), actual,
+                JSONCompareMode.STRICT);
+        assertEquals(reflective.toJson(team), actual);
+    }
+
+    @Test
+    void testJsonToJava() throws IOException {
+        final String data = ContentFixtures.jsonText();
+
+        final Team expected = reflective.fromJson(data, Team.class);
+        final Team actual = compiled.fromJson(data, Team.class);
+
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getStartAt(), actual.getStartAt());
+        assertEquals(1, actual.getMembers().size());
+
+        final Staff expectedStaff = expected.getMembers().get(0);
+        final Staff actualStaff = actual.getMembers().get(0);
+        assertEquals(35, actualStaff.getNumOfYears());
+        assertArrayEquals(expectedStaff.getPosition(),
+                actualStaff.getPosition());
+        actualStaff.setPosition(expectedStaff.getPosition());
+        assertEquals(expectedStaff, actualStaff);
+        assertNull(actualStaff.getLocaleTimeZone());
+    }
+
+    @Test
+    void testRoundTrip() {
+        var members = new ArrayList<Staff>();
+        for (int i = 0; i < 100; i++) {
+            var staff = ContentFixtures.staff("Staff-" + i, i);
+            if (i % 10 == 0) {
+                staff.setSkills(null);
+                staff.setBirthday(null);
+            }
+            members.add(staff);
+        }
+        var team = Team.create("round trip", LocalDate.of(2020, 9, 1),
+                () -> members);
+
+        var json = compiled.toJson(team);
+        assertEquals(reflective.toJson(team), json);
+
+        var actual = compiled.fromJson(json, Team.class);
+        assertEquals(100, actual.getMembers().size());
+        assertEquals(99, actual.getMembers().get(99).getNumOfYears());
+        assertNull(actual.getMembers().get(10).getSkills());
+        assertEquals(json, compiled.toJson(actual));
+    }
+
+    @Test
+    void testMissingAndUnknownFields() {
+        var actual = compiled.fromJson(
+                "{\"members\":[{\"name\":\"a\",\"unknown\":[1,{}]}]}",
+                Team.class);
+
+        assertNull(actual.getName());
+        assertEquals("a", actual.getMembers().get(0).getName());
+        assertEquals(0, actual.getMembers().get(0).getNumOfYears());
+        assertNull(compiled.fromJson("null", Team.class));
+    }
+
+    static class Renamed {
+        @SerializedName(value = "id", alternate = "key")
+        private int value;
+        private transient String cache = "cache";
+    }
+
+    static class NoConstructor {
+        private final String name;
+
+        NoConstructor(String name, int unused) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void testSerializedNameAndTransient() {
+        var gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new CompiledTypeAdapterFactory(
+                        FieldNamingPolicy.IDENTITY, Renamed.class,
+                        NoConstructor.class))
+                .create();
+
+        var renamed = new Renamed();
+        renamed.value = 7;
+        assertEquals("{\"id\":7}", gson.toJson(renamed));
+        assertEquals(8, gson.fromJson("{\"key\":8}", Renamed.class).value);
+
+        assertThrows(JsonIOException.class,
+                () -> gson.getAdapter(NoConstructor.class));
+    }
+}
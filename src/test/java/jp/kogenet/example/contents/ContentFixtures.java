@@ -0,0 +1,110 @@
+package jp.kogenet.example.contents;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.gson.AnnotationExclusionStrategy;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTimeTypeAdapter;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTypeAdapter;
+import jp.kogenet.example.cointents.utils.gson.ZonedDateTimeTypeAdapter;
+
+/**
+ * Content model data shared by the tests.
+ */
+final class ContentFixtures {
+
+    static final Path DATA_PATH = Paths.get("src/test/data/contents",
+            "data.json");
+
+    private ContentFixtures() {
+    }
+
+    /** The text of <code>data.json</code>. */
+    static String jsonText() throws IOException {
+        return Files.readString(DATA_PATH, StandardCharsets.UTF_8);
+    }
+
+    /** A member like the one in <code>data.json</code>. */
+    static Staff staff(String name) {
+        return staff(name, 35);
+    }
+
+    static Staff staff(String name, int numOfYears) {
+        var staff = new Staff();
+        staff.setName(name);
+        staff.setNumOfYears(numOfYears);
+        staff.setPosition(new String[] { "Founder", "CTO", "Writer" });
+        staff.setSalary(Map.of("2010", new BigDecimal(10000), "2012",
+                new BigDecimal(12000), "2018", new BigDecimal(14000)));
+        staff.setSkills(Arrays.asList("java", "python", "node", "kotlin"));
+        staff.setBirthday(LocalDate.of(1970, 4, 1));
+        staff.setLastUpdateAt(ZonedDateTime.of(2018, 1, 12, 13, 14, 15,
+                167000000, ZoneId.of("Asia/Tokyo")));
+        staff.setLocaleTimeZone(TimeZone.getDefault());
+        return staff;
+    }
+
+    /** A distinct member per <code>index</code>, with a non-ASCII name. */
+    static Staff staff(int index) {
+        var staff = new Staff();
+        staff.setName("Staff-" + index + "-é");
+        staff.setNumOfYears(index);
+        staff.setPosition(new String[] { "Engineer" });
+        staff.setSalary(Map.of("2018", new BigDecimal("14000.50")));
+        staff.setSkills(List.of("java", "node"));
+        staff.setBirthday(LocalDate.of(1970, 4, 1).plusDays(index));
+        staff.setLastUpdateAt(ZonedDateTime.of(2018, 1, 12, 4, 14, 15, 0,
+                ZoneId.of("UTC")).plusSeconds(index));
+        return staff;
+    }
+
+    /** <code>staff(0)</code> to <code>staff(size - 1)</code>. */
+    static List<Staff> members(int size) {
+        return IntStream.range(0, size).mapToObj(ContentFixtures::staff)
+                .collect(Collectors.toList());
+    }
+
+    /** The team of <code>data.json</code> with <code>members</code>. */
+    static Team team(List<Staff> members) {
+        return Team.create("Avoid project.", LocalDate.of(2020, 9, 1),
+                () -> members);
+    }
+
+    /** The Gson setup of <code>GsonTests</code>, to add to or create. */
+    static GsonBuilder gsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class,
+                        new LocalDateTimeTypeAdapter().nullSafe())
+                .registerTypeAdapter(LocalDate.class,
+                        new LocalDateTypeAdapter().nullSafe())
+                .registerTypeAdapter(ZonedDateTime.class,
+                        new ZonedDateTimeTypeAdapter().nullSafe())
+                .setExclusionStrategies(new AnnotationExclusionStrategy())
+                .setFieldNamingPolicy(
+                        FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES);
+    }
+
+    static Gson gson() {
+        return gsonBuilder().create();
+    }
+}
@@ -0,0 +1,140 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.ContentFormat;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+public class ContentMappersTests {
+
+    @Test
+    void testJavaToJson() throws JSONException, IOException {
+        final Team team = ContentFixtures
+                .team(List.of(ContentFixtures.staff("Bob")));
+
+        final String actual = ContentMappers.writer(Team.class)
+                .writeValueAsString(team);
+
+        System.out.println(actual);
+        JSONAssert.assertEquals(ContentFixtures.jsonText(), actual,
+                JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void testJsonToJava() throws IOException {
+        final Staff expected = ContentFixtures.staff("Bob");
+
+        final Team actual = ContentMappers.reader(Team.class)
+                .readValue(ContentFixtures.jsonText());
+
+        assertEquals("Avoid project.", actual.getName());
+        assertEquals(LocalDate.of(2020, 9, 1), actual.getStartAt());
+        assertEquals(1, actual.getMembers().size());
+
+        final Staff actualStaff = actual.getMembers().get(0);
+        assertEquals(expected.getName(), actualStaff.getName());
+        assertEquals(expected.getNumOfYears(), actualStaff.getNumOfYears());
+        assertArrayEquals(expected.getPosition(), actualStaff.getPosition());
+        assertEquals(expected.getSalary(), actualStaff.getSalary());
+        assertEquals(expected.getSkills(), actualStaff.getSkills());
+        assertEquals(expected.getBirthday(), actualStaff.getBirthday());
+        assertEquals(expected.getLastUpdateAt(), actualStaff.getLastUpdateAt()
+                .withZoneSameInstant(ZoneId.of("Asia/Tokyo")));
+        assertNull(actualStaff.getLocaleTimeZone());
+    }
+
+    @Test
+    void testCached() {
+        assertSame(ContentMappers.reader(Team.class),
+                ContentMappers.reader(Team.class));
+        assertSame(ContentMappers.writer(Staff.class),
+                ContentMappers.writer(Staff.class));
+        assertSame(ContentMappers.mapper(), ContentMappers.mapper());
+        assertNotSame(ContentMappers.mapper(), ContentMappers.newMapper());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ContentFormat.class)
+    void testBinaryFormats(ContentFormat format) throws IOException {
+        final Team fromJson = ContentMappers.reader(Team.class)
+                .readValue(ContentFixtures.jsonText());
+
+        byte[] bytes = ContentMappers.writer(format, Team.class)
+                .writeValueAsBytes(fromJson);
+        final Team actual = ContentMappers.reader(format, Team.class)
+                .readValue(bytes);
+
+        System.out.println(format + ": " + bytes.length + " bytes");
+        assertEquals(fromJson.getName(), actual.getName());
+        assertEquals(fromJson.getStartAt(), actual.getStartAt());
+        final Staff expectedStaff = fromJson.getMembers().get(0);
+        final Staff actualStaff = actual.getMembers().get(0);
+        assertArrayEquals(expectedStaff.getPosition(),
+                actualStaff.getPosition());
+        actualStaff.setPosition(expectedStaff.getPosition());
+        assertEquals(expectedStaff, actualStaff);
+
+        if (format != ContentFormat.JSON) {
+            int jsonSize = ContentMappers.writer(Team.class)
+                    .writeValueAsBytes(fromJson).length;
+            assertTrue(bytes.length < jsonSize);
+        }
+    }
+
+    @Test
+    void testConcurrentUse() throws Exception {
+        final int threads = 4;
+        var writer = ContentMappers.writer(Team.class);
+        var reader = ContentMappers.reader(Team.class);
+
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                final int id = t;
+                tasks.add(() -> {
+                    int count = 0;
+                    for (int i = 0; i < 200; i++) {
+                        var name = "Staff-" + id + "-" + i;
+                        var json = writer.writeValueAsString(
+                                ContentFixtures.team(List
+                                        .of(ContentFixtures.staff(name))));
+                        Team team = reader.readValue(json);
+                        if (team.getMembers().get(0).getName().equals(name)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                });
+            }
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                assertEquals(200, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.StringInterner;
+import jp.kogenet.example.cointents.utils.gson.InterningTypeAdapterFactory;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+import jp.kogenet.example.cointents.utils.jackson.InterningModule;
+
+public class InterningTests {
+
+    StringInterner interner;
+
+    private static String getJsonText() throws IOException {
+        var members = new ArrayList<Staff>();
+        for (int i = 0; i < 10; i++) {
+            var staff = new Staff();
+            staff.setName("Staff-" + i);
+            staff.setPosition(new String[] { "CTO", "Writer" });
+            staff.setSkills((i % 2 == 0) ? Arrays.asList("java", "python")
+                    : Arrays.asList("java", "node"));
+            members.add(staff);
+        }
+        return ContentMappers.writer(Team.class).writeValueAsString(
+                Team.create("interned", LocalDate.of(2020, 9, 1),
+                        () -> members));
+    }
+
+    private static Gson newGson(StringInterner interner) {
+        return ContentFixtures.gsonBuilder()
+                .registerTypeAdapterFactory(
+                        new InterningTypeAdapterFactory(interner))
+                .create();
+    }
+
+    @BeforeEach
+    void setUp() {
+        interner = new StringInterner();
+    }
+
+    private void assertShared(Team team) {
+        var members = team.getMembers();
+        assertEquals(10, members.size());
+
+        var first = members.get(0);
+        assertEquals(List.of("java", "python"), first.getSkills());
+        assertSame(first.getSkills(), members.get(2).getSkills());
+        assertNotSame(first.getSkills(), members.get(1).getSkills());
+        assertSame(first.getSkills().get(0),
+                members.get(1).getSkills().get(0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> first.getSkills().add("kotlin"));
+
+        // arrays stay separate, their elements do not.
+        assertArrayEquals(new String[] { "CTO", "Writer" },
+                first.getPosition());
+        assertNotSame(first.getPosition(), members.get(1).getPosition());
+        assertSame(first.getPosition()[0], members.get(1).getPosition()[0]);
+
+        // names are not interned.
+        assertEquals(5, interner.size());
+        assertEquals(2, interner.listSize());
+    }
+
+    @Test
+    void testGson() throws IOException {
+        var team = newGson(interner).fromJson(getJsonText(), Team.class);
+
+        assertShared(team);
+    }
+
+    @Test
+    void testJackson() throws IOException {
+        ObjectMapper mapper = ContentMappers.newMapper()
+                .registerModule(new InterningModule(interner));
+
+        var team = mapper.readValue(getJsonText(), Team.class);
+
+        assertShared(team);
+        assertEquals(ContentMappers.reader(Team.class)
+                .readValue(getJsonText()).toString(), team.toString());
+    }
+
+    @Test
+    void testNulls() throws IOException {
+        ObjectMapper mapper = ContentMappers.newMapper()
+                .registerModule(new InterningModule(interner));
+
+        var staff = mapper.readValue(
+                "{\"skills\":[\"java\",null],\"position\":null}",
+                Staff.class);
+
+        assertEquals(Arrays.asList("java", null), staff.getSkills());
+        assertNull(staff.getPosition());
+        assertNull(newGson(interner).fromJson("{\"skills\":null}",
+                Staff.class).getSkills());
+    }
+
+    @Test
+    void testBounded() {
+        var bounded = new StringInterner(2);
+        var a = bounded.intern(new String("a"));
+        bounded.intern("b");
+
+        var c = new String("c");
+        assertSame(c, bounded.intern(c));
+        assertNotSame(c, bounded.intern(new String("c")));
+        assertSame(a, bounded.intern(new String("a")));
+        assertEquals(2, bounded.size());
+    }
+}
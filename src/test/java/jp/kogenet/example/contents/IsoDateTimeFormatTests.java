@@ -0,0 +1,161 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import jp.kogenet.example.cointents.utils.IsoDateTimeFormat;
+import jp.kogenet.example.cointents.utils.LocalDateCache;
+import jp.kogenet.example.cointents.utils.gson.LocalDateTypeAdapter;
+
+public class IsoDateTimeFormatTests {
+
+    private static final DateTimeFormatter EXPECTED_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME
+            .withZone(ZoneId.of("UTC"));
+
+    @Test
+    void testFormatUTC() {
+        var value = ZonedDateTime.of(2018, 1, 12, 13, 14, 15, 167000000,
+                ZoneId.of("Asia/Tokyo"));
+
+        assertEquals("2018-01-12T04:14:15.167Z",
+                IsoDateTimeFormat.formatUTC(value));
+    }
+
+    @Test
+    void testFormatUTCSameAsDateTimeFormatter() {
+        var random = new Random(20200901L);
+        var zones = new ZoneId[] { ZoneId.of("UTC"), ZoneId.of("Asia/Tokyo"),
+                ZoneId.of("America/New_York") };
+        var nanos = new int[] { 0, 100000000, 167000000, 120000, 1, 999999999 };
+
+        for (int i = 0; i < 10000; i++) {
+            // 0000-01-01 .. 9999-12-31
+            long epochSecond = -62167219200L
+                    + (long) (random.nextDouble() * 315537897599L);
+            var value = ZonedDateTime.ofInstant(
+                    java.time.Instant.ofEpochSecond(epochSecond,
+                            nanos[i % nanos.length]),
+                    zones[i % zones.length]);
+
+            assertEquals(value.format(EXPECTED_FORMATTER),
+                    IsoDateTimeFormat.formatUTC(value));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "+10000-01-01T00:00:00Z",
+            "-0001-12-31T23:59:59.5Z" })
+    void testFormatUTCOutOfFastPath(String text) {
+        var value = ZonedDateTime.parse(text);
+
+        assertEquals(value.format(EXPECTED_FORMATTER),
+                IsoDateTimeFormat.formatUTC(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2018-01-12T04:14:15.167Z",
+            "2018-01-12T04:14:15Z", "2018-01-12T04:14:15.000000001Z",
+            "2018-01-12T04:14:15.167+00:00", "2018-01-12T13:14:15.167+09:00",
+            "2018-01-12T04:14:15.167Z[UTC]", "2018-01-12T04:14:15.Z",
+            "2020-02-29T00:00:00Z" })
+    void testParseZonedSameAsZonedDateTime(String text) {
+        assertEquals(ZonedDateTime.parse(text),
+                IsoDateTimeFormat.parseZoned(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2018-13-12T04:14:15Z", "2019-02-29T00:00:00Z",
+            "2018-01-12T04:14:15.1234567890Z",
+            "2018-01-12 04:14:15Z", "2018-01-12T04:14:15" })
+    void testParseZonedInvalid(String text) {
+        assertThrows(DateTimeParseException.class,
+                () -> IsoDateTimeFormat.parseZoned(text));
+    }
+
+    @Test
+    void testLocalSameAsDateTimeFormatter() {
+        var random = new Random(20200901L);
+        var nanos = new int[] { 0, 100000000, 167000000, 120000, 1, 999999999 };
+
+        for (int i = 0; i < 10000; i++) {
+            // 0000-01-01 .. 9999-12-31
+            var date = LocalDate.ofEpochDay(-719528L
+                    + (long) (random.nextDouble() * 3652059));
+            var value = date.atTime(random.nextInt(24), random.nextInt(60),
+                    random.nextInt(60), nanos[i % nanos.length]);
+
+            var text = value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            assertEquals(text, IsoDateTimeFormat.formatLocal(value));
+            assertEquals(value, IsoDateTimeFormat.parseLocal(text));
+            text = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+            assertEquals(text, IsoDateTimeFormat.formatDate(date));
+            assertEquals(date, IsoDateTimeFormat.parseDate(text));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2018-01-12T04:14", "2018-01-12T04:14:15.",
+            "+10000-01-01T00:00:00", "-0001-12-31T23:59:59.5" })
+    void testParseLocalOutOfFastPath(String text) {
+        var value = LocalDateTime.parse(text);
+
+        assertEquals(value, IsoDateTimeFormat.parseLocal(text));
+        assertEquals(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                IsoDateTimeFormat.formatLocal(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2019-02-29", "2018-1-12", "2018-01-12Z",
+            "2018/01/12", "2018-01-12T24:00:00", "2018-01-12T04:14:15Z",
+            "2018-01-12T04:14:15.1234567890" })
+    void testParseLocalInvalid(String text) {
+        assertThrows(DateTimeParseException.class, () -> {
+            if (text.length() > 10) {
+                IsoDateTimeFormat.parseLocal(text);
+            } else {
+                IsoDateTimeFormat.parseDate(text);
+            }
+        });
+    }
+
+    @Test
+    void testLocalDateCache() throws IOException {
+        var cache = new LocalDateCache(1);
+        var adapter = new LocalDateTypeAdapter(cache);
+
+        var first = adapter
+                .read(new JsonReader(new StringReader("\"1970-04-01\"")));
+        assertEquals(LocalDate.of(1970, 4, 1), first);
+        assertSame(first, adapter
+                .read(new JsonReader(new StringReader("\"1970-04-01\""))));
+        assertEquals(LocalDate.of(2020, 9, 1), adapter
+                .read(new JsonReader(new StringReader("\"2020-09-01\""))));
+        assertEquals(1, cache.size());
+        assertSame(cache.format(first), cache.format(LocalDate.of(1970, 4, 1)));
+
+        var out = new StringWriter();
+        adapter.write(new JsonWriter(out), first);
+        assertEquals("\"1970-04-01\"", out.toString());
+        assertThrows(DateTimeParseException.class,
+                () -> cache.parse("1970-04-31"));
+    }
+}
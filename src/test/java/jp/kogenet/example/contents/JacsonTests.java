@@ -35,6 +35,7 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import jp.kogenet.example.cointents.models.Staff;
 import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeDeserializer;
 import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeSerializer;
 
 public class JacsonTests {
@@ -88,6 +89,8 @@ public class JacsonTests {
         var module = new SimpleModule();
         module.addSerializer(ZonedDateTime.class,
                 new UTCZonedDateTimeSerializer());
+        module.addDeserializer(ZonedDateTime.class,
+                new UTCZonedDateTimeDeserializer());
         mapper.registerModule(module);
 
     }
@@ -0,0 +1,195 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jp.kogenet.example.cointents.io.JacksonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.io.MappedTeamFile;
+import jp.kogenet.example.cointents.io.TeamIndex;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+public class MappedTeamFileTests {
+
+    private final ObjectMapper mapper = ContentMappers.mapper();
+
+    private static Staff createStaff(int index) {
+        var staff = ContentFixtures.staff(index);
+        // every tenth member is a "Bob".
+        if (index % 10 == 3) {
+            staff.setName("Bob");
+        }
+        return staff;
+    }
+
+    private Path writeTeam(Path dir, int size) throws IOException {
+        var path = dir.resolve("team.json");
+        var header = Team.create("Mapped", LocalDate.of(2020, 9, 1),
+                () -> null);
+        try (var out = Files.newOutputStream(path)) {
+            new JacksonTeamWriter(mapper).write(header,
+                    IntStream.range(0, size)
+                            .mapToObj(MappedTeamFileTests::createStaff),
+                    out);
+        }
+        return path;
+    }
+
+    private List<Staff> readAll(Path path) throws IOException {
+        try (var reader = JacksonTeamReader.open(mapper, path)) {
+            return reader.members().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void testMember(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 500);
+        var expected = readAll(path);
+
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            assertEquals(500, file.size());
+            assertEquals(expected.get(0), file.member(0));
+            assertEquals(expected.get(271), file.member(271));
+            assertEquals(expected.get(499), file.member(499));
+            assertEquals("Staff-271-é", file.getIndex().name(271));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> file.member(500));
+        }
+        assertTrue(Files.exists(MappedTeamFile.indexPath(path)));
+    }
+
+    @Test
+    void testMembersNamed(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 100);
+
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            var bobs = file.membersNamed("Bob");
+
+            assertEquals(10, bobs.size());
+            assertArrayEquals(IntStream.range(0, 10).map(i -> i * 10 + 3)
+                    .toArray(),
+                    bobs.stream().mapToInt(Staff::getNumOfYears).toArray());
+            assertEquals(1, file.membersNamed("Staff-42-é").size());
+            assertEquals(List.of(), file.membersNamed("Alice"));
+            assertEquals(List.of(), file.membersNamed(null));
+        }
+    }
+
+    @Test
+    void testAcrossSegments(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 300);
+        var expected = readAll(path);
+
+        // members are about 250 bytes, so many straddle two segments.
+        try (var file = MappedTeamFile.open(mapper, path,
+                dir.resolve("small.idx"), 1000)) {
+            assertEquals(expected.size(), file.size());
+            for (int i = 0; i < file.size(); i++) {
+                assertEquals(expected.get(i), file.member(i));
+            }
+        }
+    }
+
+    @Test
+    void testPrettyPrinted(@TempDir Path dir) throws IOException {
+        var path = Files.copy(ContentFixtures.DATA_PATH,
+                dir.resolve("data.json"));
+
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            assertEquals(1, file.size());
+            var staff = file.membersNamed("Bob").get(0);
+            assertEquals(35, staff.getNumOfYears());
+            assertEquals(new BigDecimal(14000), staff.getSalary().get("2018"));
+            assertNull(staff.getLocaleTimeZone());
+        }
+    }
+
+    @Test
+    void testStaleIndex(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 20);
+        var indexPath = MappedTeamFile.indexPath(path);
+        MappedTeamFile.open(mapper, path).close();
+
+        // reused while the file is unchanged.
+        Files.setLastModifiedTime(indexPath, FileTime.fromMillis(0));
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            assertEquals(20, file.size());
+        }
+        assertEquals(FileTime.fromMillis(0),
+                Files.getLastModifiedTime(indexPath));
+
+        // rebuilt when it changes, or when the index is not one.
+        writeTeam(dir, 30);
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            assertEquals(30, file.size());
+            assertEquals(29, file.member(29).getNumOfYears());
+        }
+        var valid = Files.readAllBytes(indexPath);
+        for (var broken : List.of(new byte[] { 'n', 'o', 't', ' ', 'a', 'n',
+                ' ', 'i', 'n', 'd', 'e', 'x' }, Arrays.copyOf(valid, 40),
+                withCount(valid, Integer.MAX_VALUE), withCount(valid, -1))) {
+            Files.write(indexPath, broken);
+            try (var file = MappedTeamFile.open(mapper, path)) {
+                assertEquals(30, file.size());
+            }
+            assertTrue(Files.size(indexPath) > broken.length
+                    || !Arrays.equals(broken, Files.readAllBytes(indexPath)));
+        }
+    }
+
+    /** Overwrites the member count, after magic, version, size and time. */
+    private static byte[] withCount(byte[] index, int count) {
+        var copy = index.clone();
+        ByteBuffer.wrap(copy).putInt(24, count);
+        return copy;
+    }
+
+    @Test
+    void testUnwritableIndex(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 20);
+        var indexPath = dir.resolve("missing").resolve("team.json.idx");
+
+        try (var file = MappedTeamFile.open(mapper, path, indexPath)) {
+            assertEquals(20, file.size());
+            assertEquals(readAll(path).get(7), file.member(7));
+        }
+        assertFalse(Files.exists(indexPath));
+    }
+
+    @Test
+    void testUnreadableIndex(@TempDir Path dir) throws IOException {
+        var path = writeTeam(dir, 20);
+        var indexPath = Files.createDirectory(MappedTeamFile.indexPath(path));
+
+        assertNull(TeamIndex.read(indexPath));
+        try (var file = MappedTeamFile.open(mapper, path)) {
+            assertEquals(20, file.size());
+            assertEquals(readAll(path).get(7), file.member(7));
+        }
+        // an empty directory is replaced by the rebuilt index.
+        assertEquals(20, TeamIndex.read(indexPath).size());
+    }
+}
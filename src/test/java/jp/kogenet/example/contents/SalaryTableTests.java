@@ -0,0 +1,143 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import jp.kogenet.example.cointents.models.SalaryTable;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.gson.SalaryTableTypeAdapterFactory;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+import jp.kogenet.example.cointents.utils.jackson.SalaryTableModule;
+
+public class SalaryTableTests {
+
+    private static String getJsonText() {
+        var path = Paths.get("src/test/data/contents", "data.json");
+        try {
+            return Files.readString(path, Charset.forName("UTF-8"));
+        } catch (IOException e) {
+            System.err.println(e.toString());
+            return null;
+        }
+    }
+
+    private static Gson newGson() {
+        return ContentFixtures.gsonBuilder()
+                .registerTypeAdapterFactory(new SalaryTableTypeAdapterFactory())
+                .create();
+    }
+
+    private static Map<String, BigDecimal> salary() {
+        var salary = new HashMap<String, BigDecimal>();
+        salary.put("2018", new BigDecimal(14000));
+        salary.put("2010", new BigDecimal("10000.5"));
+        salary.put("2012", new BigDecimal("-12000.25"));
+        return salary;
+    }
+
+    @Test
+    void testCompact() {
+        var salary = salary();
+
+        var compact = SalaryTable.compact(salary);
+
+        assertTrue(compact instanceof SalaryTable);
+        assertEquals(salary, compact);
+        assertEquals(compact, salary);
+        assertEquals(salary.hashCode(), compact.hashCode());
+        assertEquals(List.of("2010", "2012", "2018"),
+                List.copyOf(compact.keySet()));
+
+        // scale is kept, so values print as they were read.
+        var table = (SalaryTable) compact;
+        assertEquals("10000.5", table.get(2010).toString());
+        assertEquals("14000", compact.get("2018").toString());
+        assertEquals(-1200025L, table.centsAt(1));
+        assertNull(compact.get("02018"));
+        assertNull(compact.get(2018));
+        assertFalse(compact.containsKey("2011"));
+        assertSame(compact, SalaryTable.compact(compact));
+        assertThrows(UnsupportedOperationException.class,
+                () -> compact.put("2020", BigDecimal.ONE));
+    }
+
+    @Test
+    void testNotCompacted() {
+        for (var entry : List.of(Map.entry("2020", new BigDecimal("0.001")),
+                Map.entry("2020", new BigDecimal("1E+3")),
+                Map.entry("2020", new BigDecimal("100000000000000000000")),
+                Map.entry("02020", BigDecimal.ONE),
+                Map.entry("FY2020", BigDecimal.ONE))) {
+            var map = Map.of(entry.getKey(), entry.getValue());
+
+            assertSame(map, SalaryTable.compact(map), entry.toString());
+        }
+        var nulls = new HashMap<String, BigDecimal>();
+        nulls.put("2020", null);
+        assertSame(nulls, SalaryTable.compact(nulls));
+        assertNull(SalaryTable.compact(null));
+        assertTrue(SalaryTable.compact(Map.of()) instanceof SalaryTable);
+    }
+
+    @Test
+    void testGson() throws JSONException {
+        var gson = newGson();
+
+        var team = gson.fromJson(getJsonText(), Team.class);
+
+        var salary = team.getMembers().get(0).getSalary();
+        assertTrue(salary instanceof SalaryTable);
+        assertEquals(new BigDecimal(14000), salary.get("2018"));
+        JSONAssert.assertEquals(getJsonText(), gson.toJson(team),
+                JSONCompareMode.STRICT);
+
+        var staff = new Staff();
+        staff.setSalary(SalaryTable.compact(salary()));
+        JSONAssert.assertEquals(
+                "{salary:{\"2010\":10000.5,\"2012\":-12000.25,\"2018\":14000}}",
+                gson.toJson(staff), JSONCompareMode.LENIENT);
+    }
+
+    @Test
+    void testJackson() throws IOException, JSONException {
+        ObjectMapper mapper = ContentMappers.newMapper()
+                .registerModule(new SalaryTableModule());
+
+        var team = mapper.readValue(getJsonText(), Team.class);
+
+        var salary = team.getMembers().get(0).getSalary();
+        assertTrue(salary instanceof SalaryTable);
+        Team plain = ContentMappers.reader(Team.class)
+                .readValue(getJsonText());
+        assertEquals(plain.getMembers().get(0).getSalary(), salary);
+        JSONAssert.assertEquals(getJsonText(), mapper.writeValueAsString(team),
+                JSONCompareMode.STRICT);
+
+        var staff = mapper.readValue(
+                "{\"salary\":{\"2010\":10000.50,\"FY2020\":1}}", Staff.class);
+        assertFalse(staff.getSalary() instanceof SalaryTable);
+        assertEquals("10000.50", staff.getSalary().get("2010").toString());
+    }
+}
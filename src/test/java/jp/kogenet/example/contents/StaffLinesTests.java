@@ -0,0 +1,261 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.cointents.io.StaffLines;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.utils.jackson.ContentMappers;
+
+public class StaffLinesTests {
+
+    private final ObjectMapper mapper = ContentMappers.mapper();
+
+    Gson gson;
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        gson = ContentFixtures.gson();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] write(StaffLines lines, int size)
+            throws IOException {
+        var out = new ByteArrayOutputStream();
+        lines.write(ContentFixtures.members(size).stream(), out);
+        return out.toByteArray();
+    }
+
+    private static List<Staff> read(StaffLines lines, byte[] bytes,
+            boolean ordered) {
+        var in = new ByteArrayInputStream(bytes);
+        try (var members = ordered ? lines.read(in)
+                : lines.readUnordered(in)) {
+            return members.collect(Collectors.toList());
+        }
+    }
+
+    private List<String> json(List<Staff> members) throws IOException {
+        var json = new ArrayList<String>();
+        for (Staff staff : members) {
+            json.add(mapper.writeValueAsString(staff));
+        }
+        return json;
+    }
+
+    @Test
+    void testJacksonRoundTrip() throws IOException {
+        // small blocks, so each holds a few lines and many are in flight.
+        var lines = new StaffLines(mapper, executor, 4096, 3);
+        var bytes = write(lines, 3000);
+
+        assertEquals(3000, new String(bytes, StandardCharsets.UTF_8)
+                .split("\n").length);
+        var first = mapper.writeValueAsString(ContentFixtures.staff(0)) + "\n";
+        assertEquals(first, new String(bytes, StandardCharsets.UTF_8)
+                .substring(0, first.length()));
+        assertEquals(ContentFixtures.members(3000), read(lines, bytes, true));
+    }
+
+    @Test
+    void testGsonRoundTrip() throws IOException {
+        var lines = new StaffLines(gson, executor, 4096, 3);
+        var bytes = write(lines, 3000);
+
+        // Gson reads the UTC zone back as the "Z" offset.
+        assertEquals(json(ContentFixtures.members(3000)),
+                json(read(lines, bytes, true)));
+        // the two configurations read each other's lines.
+        assertEquals(ContentFixtures.members(3000),
+                read(new StaffLines(mapper), bytes, true));
+    }
+
+    @Test
+    void testUnordered() throws IOException {
+        var lines = new StaffLines(mapper, executor, 4096, 4);
+        var members = read(lines, write(lines, 3000), false);
+
+        members.sort(Comparator.comparing(Staff::getNumOfYears));
+        assertEquals(ContentFixtures.members(3000), members);
+    }
+
+    @Test
+    void testLineEndings() {
+        var text = "\n{\"name\":\"Bob\",\"num_of_years\":1}\r\n"
+                + "   \r\n"
+                + "{\"name\":\"" + "x".repeat(10000) + "\"}\n"
+                + "{\"name\":\"Alice\",\"birthday\":\"1970-04-01\"}";
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        // a line longer than the block, and no final newline.
+        for (var lines : List.of(new StaffLines(mapper, executor, 64, 2),
+                new StaffLines(gson, executor, 64, 2))) {
+            var members = read(lines, bytes, true);
+
+            assertEquals(3, members.size());
+            assertEquals("Bob", members.get(0).getName());
+            assertEquals(1, members.get(0).getNumOfYears());
+            assertEquals(10000, members.get(1).getName().length());
+            assertEquals(LocalDate.of(1970, 4, 1),
+                    members.get(2).getBirthday());
+        }
+        assertEquals(List.of(), read(new StaffLines(mapper), new byte[0],
+                true));
+    }
+
+    @Test
+    void testBoundedInFlight() throws IOException {
+        var lines = new StaffLines(mapper, executor, 4096, 2);
+        var bytes = write(lines, 3000);
+        var consumed = new AtomicLong();
+        var closed = new AtomicBoolean();
+        InputStream in = new FilterInputStream(
+                new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int count = super.read(b, off, len);
+                consumed.addAndGet(Math.max(count, 0));
+                return count;
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        try (var members = lines.read(in)) {
+            var iterator = members.iterator();
+            assertEquals(ContentFixtures.staff(0), iterator.next());
+            // two blocks read ahead, plus the carried partial line.
+            assertTrue(consumed.get() <= 3 * 4096, "read " + consumed);
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testInvalidLine() {
+        var text = "{\"name\":\"Bob\"}\n{\"name\":}\n";
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        for (var lines : List.of(new StaffLines(mapper, executor, 4096, 2),
+                new StaffLines(gson, executor, 4096, 2))) {
+            var e = assertThrows(UncheckedIOException.class,
+                    () -> read(lines, bytes, true));
+            assertTrue(e.getCause().getMessage().contains("at byte 15"),
+                    e.getCause().getMessage());
+        }
+
+        // a null line is not a member, nor the end of the stream.
+        var nulls = "{\"name\":\"a\"}\nnull\n{\"name\":\"b\"}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        for (var lines : List.of(new StaffLines(mapper, executor, 4096, 2),
+                new StaffLines(gson, executor, 4096, 2))) {
+            var e = assertThrows(UncheckedIOException.class,
+                    () -> read(lines, nulls, true));
+            assertTrue(e.getCause().getMessage().contains("at byte 13"),
+                    e.getCause().getMessage());
+        }
+
+        // nor are two members on one line.
+        var trailing = "{\"name\":\"a\"}\n{\"name\":\"b\"} {\"name\":\"c\"}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        for (var lines : List.of(new StaffLines(mapper, executor, 4096, 2),
+                new StaffLines(gson, executor, 4096, 2))) {
+            var e = assertThrows(UncheckedIOException.class,
+                    () -> read(lines, trailing, true));
+            assertTrue(e.getCause().getMessage().contains("at byte 13"),
+                    e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void testCloseCancelsUnordered() throws IOException {
+        var decoded = new AtomicInteger();
+        var counting = new GsonBuilder()
+                .registerTypeAdapterFactory(new TypeAdapterFactory() {
+                    @Override
+                    public <T> TypeAdapter<T> create(Gson gson,
+                            TypeToken<T> type) {
+                        if (type.getRawType() != Staff.class) {
+                            return null;
+                        }
+                        var delegate = gson.getDelegateAdapter(this, type);
+                        return new TypeAdapter<T>() {
+                            @Override
+                            public void write(JsonWriter out, T value)
+                                    throws IOException {
+                                delegate.write(out, value);
+                            }
+
+                            @Override
+                            public T read(JsonReader in) throws IOException {
+                                decoded.incrementAndGet();
+                                return delegate.read(in);
+                            }
+                        };
+                    }
+                }).create();
+
+        // the first block is parsed inline, the others wait in the queue.
+        var queued = new ArrayList<Runnable>();
+        Executor executor = task -> {
+            if (decoded.get() == 0 && queued.isEmpty()) {
+                task.run();
+            } else {
+                queued.add(task);
+            }
+        };
+        var lines = new StaffLines(counting, executor, 64, 4);
+        var text = "{\"name\":\"Bob\"}\n".repeat(40);
+
+        try (var members = lines.readUnordered(new ByteArrayInputStream(
+                text.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals("Bob", members.iterator().next().getName());
+        }
+        int parsed = decoded.get();
+        assertEquals(3, queued.size());
+        queued.forEach(Runnable::run);
+        assertEquals(parsed, decoded.get());
+    }
+}
@@ -0,0 +1,245 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jp.kogenet.example.cointents.io.GsonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamReader;
+import jp.kogenet.example.cointents.io.StaffProjection;
+import jp.kogenet.example.cointents.io.TeamReader;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.models.Team;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeDeserializer;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeSerializer;
+
+public class TeamReaderTests {
+
+    Gson gson;
+    ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        gson = ContentFixtures.gson();
+
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        var module = new SimpleModule();
+        module.addSerializer(ZonedDateTime.class,
+                new UTCZonedDateTimeSerializer());
+        module.addDeserializer(ZonedDateTime.class,
+                new UTCZonedDateTimeDeserializer());
+        mapper.registerModule(module);
+    }
+
+    private static Path writeTeam(ObjectMapper mapper, Path dir, int size)
+            throws IOException {
+        List<Staff> members = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            var staff = new Staff();
+            staff.setName("Staff-" + i);
+            staff.setNumOfYears(i);
+            members.add(staff);
+        }
+        var team = Team.create("Large project.", LocalDate.of(2020, 9, 1),
+                () -> members);
+
+        var path = dir.resolve("team.json");
+        mapper.writeValue(path.toFile(), team);
+        return path;
+    }
+
+    private static void assertDataJson(TeamReader reader) throws IOException {
+        Team header = reader.getHeader();
+        assertEquals("Avoid project.", header.getName());
+        assertEquals(LocalDate.of(2020, 9, 1), header.getStartAt());
+        assertNull(header.getMembers());
+
+        Staff staff = reader.nextMember();
+        assertEquals("Bob", staff.getName());
+        assertEquals(35, staff.getNumOfYears());
+        assertEquals(List.of("java", "python", "node", "kotlin"),
+                staff.getSkills());
+        assertEquals(ZonedDateTime.of(2018, 1, 12, 13, 14, 15, 167000000,
+                ZoneId.of("Asia/Tokyo")),
+                staff.getLastUpdateAt()
+                        .withZoneSameInstant(ZoneId.of("Asia/Tokyo")));
+
+        assertNull(reader.nextMember());
+        assertNull(reader.nextMember());
+    }
+
+    @Test
+    void testGsonRead() throws IOException {
+        try (var reader = GsonTeamReader.open(gson,
+                ContentFixtures.DATA_PATH)) {
+            assertDataJson(reader);
+        }
+    }
+
+    @Test
+    void testJacksonRead() throws IOException {
+        try (var reader = JacksonTeamReader.open(mapper,
+                ContentFixtures.DATA_PATH)) {
+            assertDataJson(reader);
+        }
+    }
+
+    @Test
+    void testHeaderAfterMembers() throws IOException {
+        var json = "{\"members\":[{\"name\":\"Bob\"},null,{\"name\":\"Alice\"}],"
+                + "\"extra\":{\"a\":[1,2]},\"name\":\"Trailing.\"}";
+
+        try (var gsonReader = GsonTeamReader.open(gson,
+                new ByteArrayInputStream(
+                        json.getBytes(StandardCharsets.UTF_8)));
+                var jacksonReader = JacksonTeamReader.open(mapper,
+                        new ByteArrayInputStream(
+                                json.getBytes(StandardCharsets.UTF_8)))) {
+            for (TeamReader reader : List.of(gsonReader, jacksonReader)) {
+                assertNull(reader.getHeader().getName());
+
+                var names = new ArrayList<String>();
+                reader.forEachMember(staff -> names.add(staff.getName()));
+
+                assertEquals(List.of("Bob", "Alice"), names);
+                assertEquals("Trailing.", reader.getHeader().getName());
+            }
+        }
+    }
+
+    @Test
+    void testStreamLargeTeam(@TempDir Path dir) throws IOException {
+        var path = writeTeam(mapper, dir, 10000);
+
+        var count = new AtomicInteger();
+        try (var members = GsonTeamReader.open(gson, path).members()) {
+            members.forEach(staff -> assertEquals(
+                    "Staff-" + count.getAndIncrement(), staff.getName()));
+        }
+        assertEquals(10000, count.get());
+
+        try (var members = JacksonTeamReader.open(mapper, path).members()) {
+            assertEquals(10000, members.count());
+        }
+    }
+
+    private static void assertProjected(Team team) {
+        assertEquals("Avoid project.", team.getName());
+        assertEquals(LocalDate.of(2020, 9, 1), team.getStartAt());
+        assertEquals(1, team.getMembers().size());
+
+        Staff staff = team.getMembers().get(0);
+        assertEquals("Bob", staff.getName());
+        assertEquals(ZonedDateTime.of(2018, 1, 12, 13, 14, 15, 167000000,
+                ZoneId.of("Asia/Tokyo")),
+                staff.getLastUpdateAt()
+                        .withZoneSameInstant(ZoneId.of("Asia/Tokyo")));
+        assertEquals(0, staff.getNumOfYears());
+        assertNull(staff.getPosition());
+        assertNull(staff.getSkills());
+        assertNull(staff.getSalary());
+        assertNull(staff.getBirthday());
+    }
+
+    @Test
+    void testProjection() throws IOException {
+        var projection = StaffProjection.of("name", "last_update_at");
+        assertEquals(Set.of("name", "last_update_at"), projection.getFields());
+
+        assertProjected(GsonTeamReader.readTeam(gson,
+                Files.newInputStream(ContentFixtures.DATA_PATH), projection));
+        assertProjected(JacksonTeamReader.readTeam(mapper,
+                Files.newInputStream(ContentFixtures.DATA_PATH), "name",
+                "last_update_at"));
+    }
+
+    @Test
+    void testProjectionSkipsOthers() throws IOException {
+        // unselected values are skipped whatever they hold.
+        var json = "{\"members\":[{\"salary\":{\"2018\":\"not a number\"},"
+                + "\"name\":\"Bob\",\"unknown\":[{\"a\":1}],"
+                + "\"num_of_years\":null},null,{\"skills\":[\"java\"]}],"
+                + "\"name\":\"Trailing.\"}";
+
+        for (var team : List.of(
+                GsonTeamReader.readTeam(gson, new ByteArrayInputStream(
+                        json.getBytes(StandardCharsets.UTF_8)), "name",
+                        "num_of_years"),
+                JacksonTeamReader.readTeam(mapper, new ByteArrayInputStream(
+                        json.getBytes(StandardCharsets.UTF_8)), "name",
+                        "num_of_years"))) {
+            assertEquals("Trailing.", team.getName());
+            assertEquals(2, team.getMembers().size());
+            assertEquals("Bob", team.getMembers().get(0).getName());
+            assertEquals(0, team.getMembers().get(0).getNumOfYears());
+            assertNull(team.getMembers().get(0).getSalary());
+            assertEquals(new Staff(), team.getMembers().get(1));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> StaffProjection.of("name", "lastUpdateAt"));
+    }
+
+    @Test
+    void testOpenClosesOnInvalidHeader() {
+        var json = "[{\"name\":\"Bob\"}]".getBytes(StandardCharsets.UTF_8);
+        var closed = new AtomicInteger();
+        Supplier<InputStream> stream = () -> new ByteArrayInputStream(json) {
+            @Override
+            public void close() throws IOException {
+                closed.incrementAndGet();
+                super.close();
+            }
+        };
+        var projection = StaffProjection.of("name");
+
+        assertThrows(IOException.class,
+                () -> JacksonTeamReader.open(mapper, stream.get()));
+        assertThrows(IOException.class, () -> JacksonTeamReader.open(mapper,
+                stream.get(), projection));
+        assertThrows(IllegalStateException.class,
+                () -> GsonTeamReader.open(gson, stream.get()));
+        assertThrows(IllegalStateException.class,
+                () -> GsonTeamReader.open(gson, stream.get(), projection));
+        assertEquals(4, closed.get());
+    }
+
+    @Test
+    void testStructName() {
+        var json = "{\"name\":{\"a\":{\"b\":1}},\"members\":[{\"name\":\"x\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> JacksonTeamReader.open(mapper,
+                new ByteArrayInputStream(json)));
+        assertThrows(IllegalStateException.class,
+                () -> GsonTeamReader.open(gson,
+                        new ByteArrayInputStream(json)));
+    }
+}
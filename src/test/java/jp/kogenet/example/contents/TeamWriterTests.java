@@ -0,0 +1,208 @@
+package jp.kogenet.example.contents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import jp.kogenet.example.cointents.io.GsonTeamWriter;
+import jp.kogenet.example.cointents.io.JacksonTeamReader;
+import jp.kogenet.example.cointents.io.JacksonTeamWriter;
+import jp.kogenet.example.cointents.io.ParallelTeamWriter;
+import jp.kogenet.example.cointents.models.Staff;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeDeserializer;
+import jp.kogenet.example.cointents.utils.jackson.UTCZonedDateTimeSerializer;
+
+public class TeamWriterTests {
+
+    Gson gson;
+    ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        gson = ContentFixtures.gson();
+
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        var module = new SimpleModule();
+        module.addSerializer(ZonedDateTime.class,
+                new UTCZonedDateTimeSerializer());
+        module.addDeserializer(ZonedDateTime.class,
+                new UTCZonedDateTimeDeserializer());
+        mapper.registerModule(module);
+    }
+
+    @Test
+    void testGsonWrite() throws IOException, JSONException {
+        var members = List.of(ContentFixtures.staff("Bob"),
+                ContentFixtures.staff("Alice"));
+        var team = ContentFixtures.team(members);
+
+        var out = new ByteArrayOutputStream();
+        new GsonTeamWriter(gson).write(team, members.iterator(), out);
+
+        var actual = out.toString(StandardCharsets.UTF_8);
+        assertEquals(gson.toJson(team), actual);
+    }
+
+    @Test
+    void testJacksonWrite() throws IOException, JSONException {
+        var members = List.of(ContentFixtures.staff("Bob"),
+                ContentFixtures.staff("Alice"));
+        var team = ContentFixtures.team(members);
+
+        var out = new ByteArrayOutputStream();
+        new JacksonTeamWriter(mapper).write(team, members.stream(), out);
+
+        var actual = out.toString(StandardCharsets.UTF_8);
+        assertEquals(mapper.writeValueAsString(team), actual);
+    }
+
+    @Test
+    void testWriteToChannel() throws IOException, JSONException {
+        var header = ContentFixtures.team(null);
+
+        var gsonOut = new ByteArrayOutputStream();
+        new GsonTeamWriter(gson, 64).write(header,
+                List.of(ContentFixtures.staff("Bob")).iterator(),
+                Channels.newChannel(gsonOut));
+        var jacksonOut = new ByteArrayOutputStream();
+        new JacksonTeamWriter(mapper, 64).write(header,
+                List.of(ContentFixtures.staff("Bob")).iterator(),
+                Channels.newChannel(jacksonOut));
+
+        final String expected = ContentFixtures.jsonText();
+        JSONAssert.assertEquals(expected,
+                gsonOut.toString(StandardCharsets.UTF_8),
+                JSONCompareMode.STRICT);
+        JSONAssert.assertEquals(expected,
+                jacksonOut.toString(StandardCharsets.UTF_8),
+                JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void testWriteInBoundedChunks(@TempDir Path dir) throws IOException {
+        final int size = 10000;
+        final int bufferSize = 4096;
+        var header = ContentFixtures.team(null);
+        var members = IntStream.range(0, size)
+                .mapToObj(i -> ContentFixtures.staff("Staff-" + i));
+
+        var path = dir.resolve("team.json");
+        List<Integer> chunks = new ArrayList<>();
+        try (var file = Files.newOutputStream(path)) {
+            OutputStream out = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[] { (byte) b }, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len)
+                        throws IOException {
+                    chunks.add(len);
+                    file.write(b, off, len);
+                }
+            };
+            new JacksonTeamWriter(mapper, bufferSize).write(header, members,
+                    out);
+        }
+
+        assertEquals(0, chunks.stream().filter(len -> len > bufferSize)
+                .count());
+        try (var reader = JacksonTeamReader.open(mapper, path)) {
+            assertEquals("Avoid project.", reader.getHeader().getName());
+            assertEquals(size, reader.members().count());
+        }
+    }
+
+    @Test
+    void testParallelWrite() throws IOException {
+        final int size = 5000;
+        var members = IntStream.range(0, size)
+                .mapToObj(i -> ContentFixtures.staff("Staff-" + i))
+                .collect(Collectors.toList());
+        var team = ContentFixtures.team(members);
+
+        var pool = new ForkJoinPool(4);
+        try {
+            // chunk sizes that do and do not divide the member count.
+            for (int chunkSize : new int[] { 1, 64, 1000, size * 2 }) {
+                var jacksonOut = new ByteArrayOutputStream();
+                new ParallelTeamWriter(mapper, pool, chunkSize).write(team,
+                        members.iterator(), jacksonOut);
+                assertEquals(mapper.writeValueAsString(team),
+                        jacksonOut.toString(StandardCharsets.UTF_8));
+
+                var gsonOut = new ByteArrayOutputStream();
+                new ParallelTeamWriter(gson, pool, chunkSize).write(team,
+                        members.stream(), gsonOut);
+                assertEquals(gson.toJson(team),
+                        gsonOut.toString(StandardCharsets.UTF_8));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelWriteEmpty() throws IOException {
+        var team = ContentFixtures.team(List.of());
+
+        var out = new ByteArrayOutputStream();
+        new ParallelTeamWriter(mapper).write(team,
+                List.<Staff>of().iterator(), out);
+
+        assertEquals(mapper.writeValueAsString(team),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testParallelWriteFailure() {
+        var members = IntStream.range(0, 1000).mapToObj(i -> {
+            if (i != 700) {
+                return ContentFixtures.staff("Staff-" + i);
+            }
+            return new Staff() {
+                @Override
+                public String getName() {
+                    throw new IllegalStateException("broken");
+                }
+            };
+        });
+
+        var writer = new ParallelTeamWriter(mapper, ForkJoinPool.commonPool(),
+                100);
+        assertThrows(JsonMappingException.class,
+                () -> writer.write(ContentFixtures.team(null), members,
+                        OutputStream.nullOutputStream()));
+    }
+}
@@ -27,6 +27,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.query.Query;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +36,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import jp.kogenet.example.persistence.entities.User;
+import jp.kogenet.example.persistence.utils.CacheRegionStats;
+import jp.kogenet.example.persistence.utils.ConnectionPoolStats;
 import jp.kogenet.example.persistence.utils.HibernateUtil;
 
 public class HibernateTests {
@@ -77,11 +80,13 @@ public class HibernateTests {
     // @formatter:off
     private static final Operation INSERT_REFERENCE_DATA = sequenceOf(
             insertInto("users")
-                    .columns("user_name", "email", "password")
-                    .values("Alice", "alice@example.local","password for alica.")
-                    .values("Bob", "bob@example.local","password for bob.")
-                    .values("Carol", "carol@example.local","password for carol.")
-                    .build()
+                    .columns("id", "user_name", "email", "password")
+                    .values(1, "Alice", "alice@example.local","password for alica.")
+                    .values(2, "Bob", "bob@example.local","password for bob.")
+                    .values(3, "Carol", "carol@example.local","password for carol.")
+                    .build(),
+            // ids for User come from users_seq (see User.hbm.xml)
+            sql("ALTER SEQUENCE users_seq RESTART WITH 4")
             );
     // @formatter:on
 
@@ -97,6 +102,22 @@ public class HibernateTests {
             .columns("user_id")
                 .repeatingValues(1)
                 .times(100)
+                .repeatingValues(2)
+                .times(100)
+                .repeatingValues(3)
+                .times(100)
+            .build());
+    // @formatter:on
+
+    // @formatter:off
+    private static final Operation INSERT_USER_STATUS_DATA = sequenceOf(
+        insertInto("user_status")
+            .withDefaultValue("last_updated_at", ZonedDateTime.now())
+            .columns("user_id", "status")
+                .values(1, "ACTIVE")
+                .values(2, "ACTIVE")
+                .values(2, "SUSPENDED")
+                .values(3, "ACTIVE")
             .build());
     // @formatter:on
 
@@ -107,7 +128,8 @@ public class HibernateTests {
 
         Operation operation = sequenceOf(HibernateTests.TRUCATE_ALL,
                 HibernateTests.INSERT_REFERENCE_DATA,
-                HibernateTests.INSERT_USER_ITEMS_DATA);
+                HibernateTests.INSERT_USER_ITEMS_DATA,
+                HibernateTests.INSERT_USER_STATUS_DATA);
         DbSetup dbSetup = new DbSetup(destination, operation);
 
         // new DataSourceDestination(dataSource),
@@ -120,6 +142,9 @@ public class HibernateTests {
         // If you want to skip creating test data,
         // call dbSetupTracker.skipNextLaunch() in test case.
 
+        // DbSetup writes behind Hibernate's back, so drop cached state.
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
     }
 
     @AfterEach
@@ -256,7 +281,8 @@ public class HibernateTests {
         System.out.println("Running testList...");
         dbSetupTracker.skipNextLaunch();
 
-        Query<User> query = session.createQuery("from User", User.class);
+        Query<User> query = session.createNamedQuery("User.findAll",
+                User.class);
         List<User> resultList = query.getResultList();
 
         Assertions.assertFalse(resultList.isEmpty());
@@ -299,4 +325,159 @@ public class HibernateTests {
         // @formatter:on
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConnectionPool() {
+        System.out.println("Running testConnectionPool...");
+        dbSetupTracker.skipNextLaunch();
+
+        Assertions.assertSame(sessionFactory,
+                HibernateUtil.getSessionFactory());
+
+        // the connection is held until the transaction ends.
+        session.beginTransaction();
+        session.find(User.class, 1);
+        ConnectionPoolStats stats = HibernateUtil.getConnectionPoolStats();
+        session.getTransaction().commit();
+        System.out.println(stats);
+
+        Assertions.assertNotNull(stats);
+        Assertions.assertEquals(2, stats.getMinimumIdle());
+        Assertions.assertEquals(10, stats.getMaximumPoolSize());
+        Assertions.assertTrue(stats.getTotalConnections() <= 10);
+        Assertions.assertTrue(stats.getActiveConnections() >= 1);
+        Assertions.assertEquals(0, stats.getThreadsAwaitingConnection());
+        Assertions.assertTrue(stats.getAcquireLatency().getCount() >= 1);
+    }
+
+    @Test
+    public void testSecondLevelCache() {
+        System.out.println("Running testSecondLevelCache...");
+        dbSetupTracker.skipNextLaunch();
+
+        Statistics statistics = sessionFactory.getStatistics();
+        String region = User.class.getName();
+
+        Integer id = 1;
+        session.find(User.class, id);
+        long statements = statistics.getPrepareStatementCount();
+
+        // another session is served from the second-level cache
+        try (Session other = sessionFactory.openSession()) {
+            User cached = other.find(User.class, id);
+            Assertions.assertEquals("Alice", cached.getName());
+        }
+        Assertions.assertEquals(statements,
+                statistics.getPrepareStatementCount());
+
+        CacheRegionStats stats = HibernateUtil.getCacheRegionStats(region);
+        System.out.println(stats);
+
+        Assertions.assertEquals(1, stats.getMissCount());
+        Assertions.assertEquals(1, stats.getPutCount());
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(0, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testQueryCache() {
+        System.out.println("Running testQueryCache...");
+        dbSetupTracker.skipNextLaunch();
+
+        Statistics statistics = sessionFactory.getStatistics();
+
+        session.createNamedQuery("User.findAll", User.class).getResultList();
+        long statements = statistics.getPrepareStatementCount();
+
+        try (Session other = sessionFactory.openSession()) {
+            List<User> resultList = other
+                    .createNamedQuery("User.findAll", User.class)
+                    .getResultList();
+            Assertions.assertEquals(3, resultList.size());
+        }
+        Assertions.assertEquals(statements,
+                statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getQueryCacheHitCount());
+        Assertions.assertEquals(1, statistics.getQueryCacheMissCount());
+
+        CacheRegionStats stats = HibernateUtil
+                .getCacheRegionStats("default-query-results-region");
+        System.out.println(stats);
+        Assertions.assertEquals(1, stats.getHitCount());
+    }
+
+    @Test
+    public void testCacheInvalidation() {
+        System.out.println("Running testCacheInvalidation...");
+
+        Statistics statistics = sessionFactory.getStatistics();
+
+        // fill the entity and query caches
+        session.createNamedQuery("User.findAll", User.class).getResultList();
+        User user = session.find(User.class, 3);
+
+        session.beginTransaction();
+        user.setEmail("charlie@example.local");
+        session.update(user);
+        session.getTransaction().commit();
+
+        session.beginTransaction();
+        session.delete(session.find(User.class, 2));
+        session.getTransaction().commit();
+
+        try (Session other = sessionFactory.openSession()) {
+            Assertions.assertEquals("charlie@example.local",
+                    other.find(User.class, 3).getEmail());
+            Assertions.assertNull(other.find(User.class, 2));
+
+            // the users table changed, so the cached result is stale
+            long misses = statistics.getQueryCacheMissCount();
+            List<User> resultList = other
+                    .createNamedQuery("User.findAll", User.class)
+                    .getResultList();
+            Assertions.assertEquals(2, resultList.size());
+            Assertions.assertEquals(misses + 1,
+                    statistics.getQueryCacheMissCount());
+        }
+    }
+
+    @Test
+    public void testBatchFetchItems() {
+        System.out.println("Running testBatchFetchItems...");
+        dbSetupTracker.skipNextLaunch();
+
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<User> users = session.createNamedQuery("User.findAll", User.class)
+                .getResultList();
+        int items = 0;
+        int statuses = 0;
+        for (User user : users) {
+            items += user.getItems().size();
+            statuses += user.getStatuses().size();
+        }
+
+        Assertions.assertEquals(3, users.size());
+        Assertions.assertEquals(300, items);
+        Assertions.assertEquals(4, statuses);
+        // users + one batch of items + one subselect of statuses,
+        // instead of 1 + 2N.
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(2, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    public void testJoinFetchItems() {
+        System.out.println("Running testJoinFetchItems...");
+        dbSetupTracker.skipNextLaunch();
+
+        Statistics statistics = sessionFactory.getStatistics();
+
+        User user = session.createNamedQuery("User.findWithItems", User.class)
+                .setParameter("id", 2).getSingleResult();
+
+        Assertions.assertEquals("Bob", user.getName());
+        Assertions.assertEquals(100, user.getItems().size());
+        Assertions.assertSame(user, user.getItems().get(0).getUser());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -5,10 +5,13 @@ import static com.ninja_squad.dbsetup.Operations.sequenceOf;
 import static com.ninja_squad.dbsetup.Operations.sql;
 import static org.assertj.db.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -21,7 +24,6 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.time.LocalDate;
-import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -68,7 +70,7 @@ public class JdbcTests {
                 "jp.kogenet.example.persistence");
 
         Context context = new InitialContext();
-        context.bind("java:comp/env/jdbc/datasource", source);
+        context.rebind("java:comp/env/jdbc/datasource", source);
 
     }
 
@@ -93,12 +95,8 @@ public class JdbcTests {
         return connection;
     }
 
-    private static ZonedDateTime toZonedDateTimeSafe(OffsetDateTime o,
-            ZoneId zoneId) {
-        return (o != null) ? o.atZoneSameInstant(zoneId) : null;
-    }
-
-    private static final Operation SETUP_WORK_ITEMS = sequenceOf(
+    /** Recreates an empty <code>work_items</code>; shared with other tests. */
+    static final Operation SETUP_WORK_ITEMS = sequenceOf(
     // @formatter:off
         sql("DROP TABLE IF EXISTS work_items CASCADE"),
         sql("CREATE TABLE work_items ( id SERIAL PRIMARY KEY"
@@ -328,19 +326,9 @@ public class JdbcTests {
             statement.setInt(1, 10);
 
             ResultSet result = statement.executeQuery();
+            var mapper = new WorkItemRowMapper(ZoneId.of("Asia/Tokyo"));
             while (result.next()) {
-                item = WorkItem.builder().id(result.getInt("id"))
-                        .code(result.getString("code"))
-                        .name(result.getString("name"))
-                        .price(result.getBigDecimal("price"))
-                        .quantity(result.getInt("quantity"))
-                        .purchaseDate(result.getObject("purchase_date",
-                                LocalDate.class))
-                        .lastUpdatedAt(JdbcTests.toZonedDateTimeSafe(
-                                result.getObject("last_updated_at",
-                                        OffsetDateTime.class),
-                                ZoneId.of("Asia/Tokyo")))
-                        .build();
+                item = mapper.mapRow(result);
 
                 System.out.println(item.toString());
             }
@@ -380,19 +368,9 @@ public class JdbcTests {
             String sql = "select code, name, price, quantity, purchase_date, last_updated_at"
                     + " from work_items order by quantity desc";
             ResultSet result = statement.executeQuery(sql);
+            var mapper = new WorkItemRowMapper(ZoneId.of("Asia/Tokyo"));
             while (result.next()) {
-                WorkItem item = WorkItem.builder()
-                        .code(result.getString("code"))
-                        .name(result.getString("name"))
-                        .price(result.getBigDecimal("price"))
-                        .quantity(result.getInt("quantity"))
-                        .purchaseDate(result.getObject("purchase_date",
-                                LocalDate.class))
-                        .lastUpdatedAt(JdbcTests.toZonedDateTimeSafe(
-                                result.getObject("last_updated_at",
-                                        OffsetDateTime.class),
-                                ZoneId.of("Asia/Tokyo")))
-                        .build();
+                WorkItem item = mapper.mapRow(result);
 
                 System.out.println(item.toString());
                 resultList.add(item);
@@ -551,35 +529,23 @@ public class JdbcTests {
             var fileSize = Files.size(filePath);
             System.out.println("> size = " + Long.toString(fileSize));
 
-            var statement = connection.prepareStatement(
-                    "update work_items set clob_data = ? where id = ?");
-            try (var reader = Files.newBufferedReader(filePath)) {
-                statement.setCharacterStream(1, reader);
-            }
-            statement.setInt(2, 2);
-
-            var rowsChanged = statement.executeUpdate();
-            System.out.println(rowsChanged + " rows Changed.");
-
+            var store = new LargeObjectStore(16);
+            var written = store.writeClob(connection, 2, filePath,
+                    StandardCharsets.UTF_8);
             connection.commit();
-            statement.close();
-
-            var statement2 = connection.prepareStatement(
-                    "select clob_data from work_items where id = ?");
-            statement2.setInt(1, 2);
 
-            ResultSet result2 = statement2.executeQuery();
-            result2.next();
+            var out = new ByteArrayOutputStream();
+            var read = store.readClob(connection, 2, Channels.newChannel(out),
+                    StandardCharsets.UTF_8);
+            out.toString(StandardCharsets.UTF_8).lines().forEach(text -> {
+                System.out.println("> " + text);
+            });
 
-            try (var reader = result2.getCharacterStream(1)) {
-                try (var reader2 = new BufferedReader(reader)) {
-                    reader2.lines().forEach(text -> {
-                        System.out.println("> " + text);
-                    });
-                }
-            }
-            result2.close();
-            statement2.close();
+            assertEquals(fileSize, written.getBytes());
+            assertEquals(fileSize, read.getBytes());
+            assertEquals(written.getDigestBase64(), read.getDigestBase64());
+            assertNull(store.readClob(connection, 999,
+                    Channels.newChannel(out), StandardCharsets.UTF_8));
 
         } finally {
             if (connection != null) {
@@ -626,47 +592,22 @@ public class JdbcTests {
             var fileSize = Files.size(filePath);
             System.out.println("> size = " + Long.toString(fileSize));
 
-            var statement = connection.prepareStatement(
-                    "update work_items set blob_data = ? where id = ?");
-
-            try (var stream = Files.newInputStream(filePath)) {
-                statement.setBinaryStream(1, stream);
-            }
-            statement.setInt(2, 3);
-
-            var rowsChanged = statement.executeUpdate();
-            System.out.println(rowsChanged + " rows Changed.");
-
+            var store = new LargeObjectStore(1024);
+            var written = store.writeBlob(connection, 3, filePath);
             connection.commit();
-            statement.close();
-
-            var statement2 = connection.prepareStatement(
-                    "select blob_data from work_items where id = ?");
-            statement2.setInt(1, 3);
-
-            ResultSet result2 = statement2.executeQuery();
-            result2.next();
-
-            try (var stream = result2.getBinaryStream(1)) {
-                var bytes = stream.readAllBytes();
-                var sha512 = MessageDigest.getInstance("SHA-512");
-                var sha512_result = sha512.digest(bytes);
-                System.out.println("> SHA-512 :"
-                        + Base64.getEncoder().encodeToString(sha512_result));
-            }
-
-            try (var stream = result2.getBinaryStream(1)) {
-                var readSize = 1024;
-                var buffer = new byte[readSize];
-                var readedSize = 0;
-                while ((readedSize = stream.read(buffer, 0, readSize)) > 0) {
-                    var s = Base64.getEncoder().encodeToString(buffer);
-                    System.out.println(">[" + readedSize + "] " + s);
-                }
-            }
 
-            result2.close();
-            statement2.close();
+            var out = new ByteArrayOutputStream();
+            var read = store.readBlob(connection, 3, Channels.newChannel(out));
+            System.out.println("> SHA-512 :" + read.getDigestBase64());
+
+            var sha512 = MessageDigest.getInstance("SHA-512");
+            var expected = Base64.getEncoder()
+                    .encodeToString(sha512.digest(Files.readAllBytes(filePath)));
+            assertEquals(fileSize, written.getBytes());
+            assertEquals(expected, written.getDigestBase64());
+            assertEquals(fileSize, read.getBytes());
+            assertEquals(expected, read.getDigestBase64());
+            assertEquals(fileSize, out.size());
 
         } finally {
             if (connection != null) {
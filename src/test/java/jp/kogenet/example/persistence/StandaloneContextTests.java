@@ -0,0 +1,229 @@
+package jp.kogenet.example.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.naming.Binding;
+import javax.naming.Context;
+import javax.naming.ContextNotEmptyException;
+import javax.naming.InitialContext;
+import javax.naming.Name;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+import javax.naming.NotContextException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StandaloneContextTests {
+
+    private Context context;
+
+    @BeforeEach
+    void setup() {
+        context = new StandaloneContext();
+    }
+
+    @Test
+    public void testBindAndLookup() throws NamingException {
+        var value = new Object();
+        context.bind("java:comp/env/jdbc/datasource", value);
+
+        assertSame(value, context.lookup("java:comp/env/jdbc/datasource"));
+        assertSame(value, context.lookup(context.getNameParser("")
+                .parse("java:comp/env/jdbc/datasource")));
+
+        var env = (Context) context.lookup("java:comp/env");
+        assertEquals("java:comp/env", env.getNameInNamespace());
+        assertSame(value, env.lookup("jdbc/datasource"));
+
+        assertThrows(NameAlreadyBoundException.class,
+                () -> context.bind("java:comp/env/jdbc/datasource", "other"));
+    }
+
+    @Test
+    public void testLookupErrors() throws NamingException {
+        context.bind("a/b", "value");
+
+        var e = assertThrows(NameNotFoundException.class,
+                () -> context.lookup("a/c/d"));
+        assertEquals("a/c", e.getResolvedName().toString());
+        assertEquals("d", e.getRemainingName().toString());
+
+        assertThrows(NotContextException.class,
+                () -> context.lookup("a/b/c"));
+    }
+
+    @Test
+    public void testRebindAndUnbind() throws NamingException {
+        context.bind("a/b", "first");
+        context.rebind("a/b", "second");
+        assertEquals("second", context.lookup("a/b"));
+
+        context.unbind("a/b");
+        assertThrows(NameNotFoundException.class,
+                () -> context.lookup("a/b"));
+        // unbinding an unbound name is not an error
+        context.unbind("a/b");
+
+        assertThrows(NameNotFoundException.class,
+                () -> context.unbind("x/y"));
+    }
+
+    @Test
+    public void testRename() throws NamingException {
+        context.bind("a/b", "value");
+        context.createSubcontext("c");
+        context.rename("a/b", "c/d");
+
+        assertEquals("value", context.lookup("c/d"));
+        assertThrows(NameNotFoundException.class,
+                () -> context.lookup("a/b"));
+    }
+
+    @Test
+    public void testSubcontext() throws NamingException {
+        var sub = context.createSubcontext("a");
+        sub.createSubcontext("b").bind("c", "value");
+
+        assertEquals("a/b", ((Context) context.lookup("a/b"))
+                .getNameInNamespace());
+        assertEquals("value", context.lookup("a/b/c"));
+        assertThrows(NameAlreadyBoundException.class,
+                () -> context.createSubcontext("a"));
+        assertThrows(ContextNotEmptyException.class,
+                () -> context.destroySubcontext("a/b"));
+        assertThrows(NotContextException.class,
+                () -> context.destroySubcontext("a/b/c"));
+
+        context.unbind("a/b/c");
+        context.destroySubcontext("a/b");
+        assertThrows(NameNotFoundException.class,
+                () -> context.lookup("a/b"));
+    }
+
+    @Test
+    public void testList() throws NamingException {
+        context.bind("a/one", 1);
+        context.bind("a/two", "2");
+        context.createSubcontext("a/three");
+
+        Map<String, String> classes = new TreeMap<>();
+        var pairs = context.list("a");
+        while (pairs.hasMore()) {
+            var pair = pairs.next();
+            classes.put(pair.getName(), pair.getClassName());
+        }
+        assertEquals(Map.of("one", Integer.class.getName(), "two",
+                String.class.getName(), "three",
+                StandaloneContext.class.getName()), classes);
+
+        List<Binding> bindings = Collections
+                .list(context.listBindings("a"));
+        assertEquals(3, bindings.size());
+        assertTrue(bindings.stream().anyMatch(
+                b -> b.getName().equals("one") && b.getObject().equals(1)));
+
+        assertThrows(NotContextException.class, () -> context.list("a/one"));
+    }
+
+    @Test
+    public void testComposeName() throws NamingException {
+        assertEquals("a/b/c", context.composeName("c", "a/b"));
+        assertEquals("c", context.composeName("c", ""));
+    }
+
+    @Test
+    public void testForeignContext() throws NamingException {
+        var foreign = new StandaloneContext();
+        foreign.bind("x/y", "value");
+        context.bind("mnt", new ContextWrapper(foreign));
+
+        assertEquals("value", context.lookup("mnt/x/y"));
+        context.bind("mnt/x/z", "other");
+        assertEquals("other", foreign.lookup("x/z"));
+    }
+
+    @Test
+    public void testInitialContext() throws NamingException {
+        var environment = new Hashtable<String, String>();
+        environment.put(Context.INITIAL_CONTEXT_FACTORY,
+                StandaloneContextFactory.class.getName());
+
+        var first = new InitialContext(environment);
+        first.rebind("test/standalone", "value");
+        var second = new InitialContext(environment);
+        assertEquals("value", second.lookup("test/standalone"));
+        assertEquals(StandaloneContextFactory.class.getName(), second
+                .getEnvironment().get(Context.INITIAL_CONTEXT_FACTORY));
+        second.unbind("test/standalone");
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        final int threads = 8;
+        var value = new Object();
+        context.bind("java:comp/env/jdbc/datasource", value);
+
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                final int id = t;
+                tasks.add(() -> {
+                    int found = 0;
+                    for (int i = 0; i < 10000; i++) {
+                        if (context.lookup(
+                                "java:comp/env/jdbc/datasource") == value) {
+                            found++;
+                        }
+                        context.rebind("workers/" + id, i);
+                    }
+                    return found;
+                });
+            }
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                assertEquals(10000, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(threads,
+                Collections.list(context.list("workers")).size());
+    }
+
+    /**
+     * Hides that a context is a <code>StandaloneContext</code>.
+     */
+    private static class ContextWrapper extends InitialContext {
+        private final Context context;
+
+        ContextWrapper(Context context) throws NamingException {
+            super(true);
+            this.context = context;
+        }
+
+        @Override
+        protected Context getURLOrDefaultInitCtx(String name) {
+            return context;
+        }
+
+        @Override
+        protected Context getURLOrDefaultInitCtx(Name name) {
+            return context;
+        }
+    }
+}
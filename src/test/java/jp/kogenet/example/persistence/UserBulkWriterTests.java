@@ -0,0 +1,154 @@
+package jp.kogenet.example.persistence;
+
+import static com.ninja_squad.dbsetup.Operations.sequenceOf;
+import static com.ninja_squad.dbsetup.Operations.sql;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.destination.DriverManagerDestination;
+import com.ninja_squad.dbsetup.operation.Operation;
+
+import org.hibernate.PropertyValueException;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.persistence.entities.User;
+import jp.kogenet.example.persistence.utils.HibernateUtil;
+
+public class UserBulkWriterTests {
+
+    private static final int SIZE = 10000;
+
+    private static SessionFactory sessionFactory;
+    private static DriverManagerDestination destination;
+
+    // users_seq is left alone: the id generator holds a block of it.
+    private static final Operation TRUNCATE_USERS = sequenceOf(
+            sql("TRUNCATE TABLE users RESTART IDENTITY"));
+
+    @BeforeAll
+    static void setup() {
+        sessionFactory = HibernateUtil.getSessionFactory();
+
+        Configuration configure = new Configuration().configure();
+        String url = configure.getProperty(AvailableSettings.URL);
+        String user = configure.getProperty(AvailableSettings.USER);
+        String pass = configure.getProperty(AvailableSettings.PASS);
+        destination = new DriverManagerDestination(url, user, pass);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        new DbSetup(destination, TRUNCATE_USERS).launch();
+        // don't hand the factory and its block of ids to other tests.
+        HibernateUtil.shutdown();
+    }
+
+    @BeforeEach
+    void preparation() {
+        new DbSetup(destination, TRUNCATE_USERS).launch();
+        sessionFactory.getStatistics().clear();
+    }
+
+    private static Stream<User> createUsers(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new User(null, "user-" + i,
+                        "user-" + i + "@example.local", "password " + i));
+    }
+
+    private static long countUsers() {
+        try (var session = sessionFactory.openSession()) {
+            return session.createQuery("select count(u) from User u",
+                    Long.class).getSingleResult();
+        }
+    }
+
+    @Test
+    public void testInsert() {
+        var result = new UserBulkWriter(sessionFactory)
+                .write(createUsers(SIZE));
+        System.out.println(result + " " + result.getStatementsPerRow()
+                + " statements/row");
+
+        assertEquals(SIZE, result.getRows());
+        assertEquals(SIZE / 50, result.getFlushes());
+        // one batch per flush, one users_seq call per 50 ids
+        // (plus one if an earlier test left part of a block).
+        assertEquals(SIZE / 50, result.getBatches());
+        assertTrue(result.getStatements() <= SIZE / 50 + 1);
+        assertTrue(result.getStatementsPerRow() < 0.05);
+        assertEquals(SIZE, countUsers());
+    }
+
+    @Test
+    public void testUpdate() {
+        var writer = new UserBulkWriter(sessionFactory, 100);
+        writer.write(createUsers(1000));
+
+        List<User> users;
+        try (var session = sessionFactory.openSession()) {
+            users = session.createQuery("from User order by id", User.class)
+                    .getResultList();
+        }
+        users.forEach(user -> user.setEmail(user.getName() + "@example.com"));
+
+        var result = writer.write(users.iterator());
+        System.out.println(result);
+
+        assertEquals(1000, result.getRows());
+        assertEquals(10, result.getBatches());
+        assertEquals(0, result.getStatements());
+        try (var session = sessionFactory.openSession()) {
+            assertEquals(1000, session.createQuery(
+                    "select count(u) from User u where u.email like '%.com'",
+                    Long.class).getSingleResult());
+        }
+    }
+
+    @Test
+    public void testRowPerTransaction() {
+        // how HibernateTests.testCreate writes: one user per transaction.
+        final int size = 500;
+        var statistics = sessionFactory.getStatistics();
+
+        try (var session = sessionFactory.openSession()) {
+            createUsers(size).forEach(user -> {
+                session.beginTransaction();
+                session.save(user);
+                session.getTransaction().commit();
+            });
+        }
+        double perRow = (double) statistics.getPrepareStatementCount() / size;
+        System.out.println(perRow + " prepared statements/row");
+
+        var result = new UserBulkWriter(sessionFactory)
+                .write(createUsers(size));
+
+        assertTrue(perRow >= 1.0);
+        assertTrue(result.getStatementsPerRow() < perRow / 10);
+    }
+
+    @Test
+    public void testRollbackOnFailure() {
+        var users = createUsers(120).collect(Collectors.toList());
+        users.get(110).setPassword(null);
+
+        var writer = new UserBulkWriter(sessionFactory);
+        assertThrows(PropertyValueException.class,
+                () -> writer.write(users.iterator()));
+
+        assertEquals(0, countUsers());
+    }
+}
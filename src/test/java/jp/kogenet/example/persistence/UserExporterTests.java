@@ -0,0 +1,120 @@
+package jp.kogenet.example.persistence;
+
+import static com.ninja_squad.dbsetup.Operations.sql;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.destination.DriverManagerDestination;
+import com.ninja_squad.dbsetup.operation.Operation;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.persistence.entities.User;
+import jp.kogenet.example.persistence.utils.HibernateUtil;
+
+public class UserExporterTests {
+
+    private static final int SIZE = 5000;
+
+    private static SessionFactory sessionFactory;
+    private static DriverManagerDestination destination;
+
+    private static final Operation TRUNCATE_USERS = sql(
+            "TRUNCATE TABLE users RESTART IDENTITY");
+
+    Gson gson;
+    ObjectMapper mapper;
+
+    @BeforeAll
+    static void setup() {
+        sessionFactory = HibernateUtil.getSessionFactory();
+
+        Configuration configure = new Configuration().configure();
+        String url = configure.getProperty(AvailableSettings.URL);
+        String user = configure.getProperty(AvailableSettings.USER);
+        String pass = configure.getProperty(AvailableSettings.PASS);
+        destination = new DriverManagerDestination(url, user, pass);
+
+        new DbSetup(destination, TRUNCATE_USERS).launch();
+        new UserBulkWriter(sessionFactory)
+                .write(IntStream.range(0, SIZE).mapToObj(i -> new User(null,
+                        "user-" + i, "user-" + i + "@example.local",
+                        "password " + i)));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        new DbSetup(destination, TRUNCATE_USERS).launch();
+        // don't hand the factory and its block of ids to other tests.
+        HibernateUtil.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        gson = new GsonBuilder()
+                .setFieldNamingPolicy(
+                        FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+    }
+
+    private static void assertLines(List<String> lines) throws IOException {
+        assertEquals(SIZE, lines.size());
+
+        var mapper = new ObjectMapper();
+        for (int i = 0; i < SIZE; i++) {
+            var node = mapper.readTree(lines.get(i));
+            assertEquals("user-" + i, node.get("name").asText());
+            assertEquals("user-" + i + "@example.local",
+                    node.get("email").asText());
+            assertFalse(node.has("password"));
+            assertFalse(node.has("items"));
+            assertFalse(node.has("statuses"));
+        }
+    }
+
+    @Test
+    public void testJacksonExport() throws IOException {
+        var out = new ByteArrayOutputStream();
+        long count = new UserExporter(sessionFactory, mapper).export(out, 100);
+
+        assertEquals(SIZE, count);
+        var text = out.toString(StandardCharsets.UTF_8);
+        assertEquals('\n', text.charAt(text.length() - 1));
+        assertLines(text.lines().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGsonExport() throws IOException {
+        var out = new ByteArrayOutputStream();
+        long count = new UserExporter(sessionFactory, gson).export(out);
+
+        assertEquals(SIZE, count);
+        assertLines(out.toString(StandardCharsets.UTF_8).lines()
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,167 @@
+package jp.kogenet.example.persistence;
+
+import static com.ninja_squad.dbsetup.Operations.sql;
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.destination.DriverManagerDestination;
+
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Source;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import jp.kogenet.example.persistence.entities.WorkItem;
+
+public class WorkItemBulkLoaderTests {
+
+    private static String url;
+    private static String user;
+    private static String pass;
+    private static DriverManagerDestination destination;
+    private static Source dbSource;
+
+    @BeforeAll
+    static void setup() {
+        // configuration from hibernate.cfg.xml
+        Configuration configure = new Configuration().configure();
+        url = configure.getProperty(AvailableSettings.URL);
+        user = configure.getProperty(AvailableSettings.USER);
+        pass = configure.getProperty(AvailableSettings.PASS);
+
+        destination = new DriverManagerDestination(url, user, pass);
+        dbSource = new Source(url, user, pass);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        // large tables slow down the Changes assertions in other tests
+        new DbSetup(destination,
+                sql("TRUNCATE TABLE work_items RESTART IDENTITY")).launch();
+    }
+
+    @BeforeEach
+    void preparation() {
+        new DbSetup(destination, JdbcTests.SETUP_WORK_ITEMS).launch();
+    }
+
+    private static Stream<WorkItem> createItems(int size) {
+        var updatedAt = ZonedDateTime.of(2020, 9, 1, 12, 0, 0, 0,
+                ZoneId.of("Asia/Tokyo"));
+        // @formatter:off
+        return IntStream.range(0, size).mapToObj(i -> WorkItem.builder()
+                .code(String.format("%05d", i % 100000))
+                .name((i == 1) ? "TAB\tAND\\BACKSLASH" : "ITEM-" + i)
+                .price(BigDecimal.valueOf(100000L + i, 2))
+                .quantity((i % 10 == 0) ? null : i % 1000)
+                .purchaseDate(LocalDate.of(2020, 9, 1).plusDays(i % 365))
+                .lastUpdatedAt(updatedAt.plusSeconds(i))
+                .build());
+        // @formatter:on
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = { "COPY", "MULTI_ROW_INSERT" })
+    public void testLoad(WorkItemBulkLoader.Method method) throws SQLException {
+        final int size = 10001;
+
+        BulkLoadResult result;
+        try (Connection connection = DriverManager.getConnection(url, user,
+                pass)) {
+            connection.setAutoCommit(false);
+
+            var loader = new WorkItemBulkLoader(1000, method);
+            result = loader.load(connection, createItems(size));
+
+            connection.commit();
+        }
+        System.out.println(result + " " + result.getRowsPerSecond()
+                + " rows/sec, p99 batch "
+                + result.getBatchLatency().getPercentileNanos(99) + " ns");
+
+        assertEquals(method, result.getMethod());
+        assertEquals(size, result.getRows());
+        assertEquals(11, result.getBatches());
+        assertEquals(11, result.getBatchLatency().getCount());
+
+        // @formatter:off
+        assertThat(new Request(dbSource,
+                "select count(*) as total, count(quantity) as quantities"
+                + " from work_items"))
+            .row()
+                .value().isEqualTo(size)
+                .value().isEqualTo(size - 1001);
+        assertThat(new Request(dbSource,
+                "select code, name, price, quantity, purchase_date"
+                + " from work_items where id = 2"))
+            .row()
+                .value("code").isEqualTo("00001")
+                .value("name").isEqualTo("TAB\tAND\\BACKSLASH")
+                .value("price").isEqualTo(BigDecimal.valueOf(100001L, 2))
+                .value("quantity").isEqualTo(1)
+                .value("purchase_date").isEqualTo(DateValue.of(2020, 9, 2));
+        // @formatter:on
+    }
+
+    @Test
+    public void testAutoUsesCopy() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, user,
+                pass)) {
+            var result = new WorkItemBulkLoader(10,
+                    WorkItemBulkLoader.Method.AUTO).load(connection,
+                            createItems(25));
+
+            assertEquals(WorkItemBulkLoader.Method.COPY, result.getMethod());
+            assertEquals(25, result.getRows());
+            assertEquals(3, result.getBatches());
+        }
+    }
+
+    @Test
+    public void testReadBackWithRowMapper() throws SQLException {
+        List<WorkItem> expected = createItems(100)
+                .collect(Collectors.toList());
+
+        List<WorkItem> actual;
+        try (Connection connection = DriverManager.getConnection(url, user,
+                pass)) {
+            new WorkItemBulkLoader().load(connection, expected.stream());
+
+            try (var statement = connection.prepareStatement(
+                    "select id, code, name, price, quantity, purchase_date,"
+                            + " last_updated_at from work_items order by id");
+                    var result = statement.executeQuery()) {
+                actual = new WorkItemRowMapper(ZoneId.of("Asia/Tokyo"))
+                        .mapAll(result);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            expected.get(i).setId(i + 1);
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertNull(actual.get(0).getQuantity());
+    }
+}
@@ -0,0 +1,169 @@
+package jp.kogenet.example.persistence;
+
+import static com.ninja_squad.dbsetup.Operations.sql;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.destination.DataSourceDestination;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jp.kogenet.example.persistence.entities.WorkItem;
+
+public class WorkItemRepositoryTests {
+
+    private static final int SIZE = 20000;
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        // configuration from hibernate.cfg.xml
+        Configuration configure = new Configuration().configure();
+
+        // one connection, so a leaked cursor makes the next borrow time out
+        var config = new HikariConfig();
+        config.setJdbcUrl(configure.getProperty(AvailableSettings.URL));
+        config.setUsername(configure.getProperty(AvailableSettings.USER));
+        config.setPassword(configure.getProperty(AvailableSettings.PASS));
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(1000);
+        dataSource = new HikariDataSource(config);
+
+        new DbSetup(new DataSourceDestination(dataSource),
+                JdbcTests.SETUP_WORK_ITEMS).launch();
+
+        // @formatter:off
+        var items = IntStream.range(0, SIZE).mapToObj(i -> WorkItem.builder()
+                .code(String.format("%05d", i % 100000))
+                .name("ITEM-" + i)
+                .price(BigDecimal.valueOf(100000L + i, 2))
+                .quantity((i % 10 == 0) ? null : i % 1000)
+                .purchaseDate(LocalDate.of(2020, 9, 1).plusDays(i % 365))
+                .build());
+        // @formatter:on
+        try (var connection = dataSource.getConnection()) {
+            new WorkItemBulkLoader().load(connection, items);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        // large tables slow down the Changes assertions in other tests
+        new DbSetup(new DataSourceDestination(dataSource),
+                sql("TRUNCATE TABLE work_items RESTART IDENTITY")).launch();
+        dataSource.close();
+    }
+
+    @Test
+    public void testStreamAll() {
+        var repository = new WorkItemRepository(dataSource,
+                ZoneId.of("Asia/Tokyo"));
+
+        var count = new AtomicInteger();
+        try (var items = repository.streamAll(500)) {
+            items.forEach(item -> {
+                int i = count.getAndIncrement();
+                assertEquals(i + 1, item.getId());
+                assertEquals("ITEM-" + i, item.getName());
+                if (i % 10 == 0) {
+                    assertNull(item.getQuantity());
+                }
+            });
+        }
+        assertEquals(SIZE, count.get());
+
+        // the connection went back to the pool with its autocommit restored
+        try (var connection = dataSource.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        } catch (SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
+
+    @Test
+    public void testCloseEarly() {
+        var repository = new WorkItemRepository(dataSource);
+
+        for (int i = 0; i < 3; i++) {
+            try (var items = repository.streamAll(10)) {
+                var first = items.limit(25).collect(Collectors.toList());
+                assertEquals(25, first.size());
+                assertEquals(25, first.get(24).getId());
+            }
+        }
+
+        try (var items = repository.streamAll()) {
+            assertEquals(SIZE, items.count());
+        }
+    }
+
+    /**
+     * Forwards to <code>target</code>, and to the connections it returns,
+     * except for calls to <code>failing</code>, which fail.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T failing(Class<T> type, T target, String failing) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] { type }, (proxy, method, args) -> {
+                    if (method.getName().equals(failing)) {
+                        throw new SQLException(failing);
+                    }
+                    try {
+                        Object result = method.invoke(target, args);
+                        return (result instanceof Connection)
+                                ? failing(Connection.class,
+                                        (Connection) result, failing)
+                                : result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Test
+    public void testFailedOpen() {
+        // fails before the cursor has changed anything
+        var repository = new WorkItemRepository(
+                failing(DataSource.class, dataSource, "getAutoCommit"));
+
+        var e = assertThrows(UncheckedSQLException.class,
+                () -> repository.streamAll());
+        assertEquals("getAutoCommit", e.getCause().getMessage());
+
+        // the only pooled connection was given back
+        try (var items = new WorkItemRepository(dataSource).streamAll()) {
+            assertEquals(SIZE, items.count());
+        }
+    }
+
+    @Test
+    public void testInvalidFetchSize() {
+        var repository = new WorkItemRepository(dataSource);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.streamAll(0));
+    }
+}